@@ -6,4 +6,5 @@ dependencies {
     implementation("org.gradlex:extra-java-module-info:1.5")
     implementation("org.gradlex:java-module-dependencies:1.3.1")
     implementation("org.gradlex:java-module-testing:1.3.1")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.2")
 }
@@ -0,0 +1,25 @@
+plugins {
+    java
+    id("me.champeau.jmh")
+
+    id("io.github.gallyamb.time.base")
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(17)
+    }
+}
+
+jmh {
+    jmhVersion = "1.37"
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+
+    // allows to run a subset of benchmarks, e.g. ./gradlew jmh -PjmhIncludes=NowBenchmark
+    providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
+
+dependencies {
+    jmhImplementation(platform(project(":platform")))
+}
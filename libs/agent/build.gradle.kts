@@ -0,0 +1,24 @@
+plugins {
+    id("io.github.gallyamb.time.java-library")
+}
+
+dependencies {
+    api(project(":time-core"))
+    testImplementation(project(":time-test-plain"))
+    testImplementation(testFixtures(project(":time-test-core")))
+
+    implementation("net.bytebuddy:byte-buddy")
+    implementation("net.bytebuddy:byte-buddy-agent")
+}
+
+tasks {
+    jar {
+        manifest {
+            attributes(
+                "Premain-Class" to "io.github.gallyamb.time.test.agent.TimeAgent",
+                "Agent-Class" to "io.github.gallyamb.time.test.agent.TimeAgent",
+                "Can-Retransform-Classes" to "true",
+            )
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.gallyamb.time.test.agent;
+
+import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.ProtectionDomain;
+import java.time.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.test.agent.internal.TimeBridge;
+import net.bytebuddy.agent.ByteBuddyAgent;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.asm.MemberSubstitution;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.utility.JavaModule;
+
+/**
+ * A Java agent, that redirects JDK time sources to the {@link io.github.gallyamb.time.ClockHandler} in every class
+ * outside the JDK, i.e. in application and third-party libraries code, for all threads
+ * <p>
+ * Calls of {@link System#currentTimeMillis()}, {@link System#nanoTime()}, {@link Clock#systemUTC()},
+ * {@link Clock#systemDefaultZone()}, {@link Clock#system(ZoneId)} and {@code now()} methods of {@code java.time} types
+ * are replaced in bytecode with direct static calls, so there is no per-call overhead of interception and the JIT
+ * inlines them as any other static call. Method references (e.g. {@code Instant::now}) are linked directly to the JDK
+ * methods and are not redirected
+ * <p>
+ * Calls of {@link Thread#sleep(long)}, {@link TimeUnit#sleep(long)}, {@link LockSupport#parkNanos(Object, long)} and
+ * {@link LockSupport#parkUntil(Object, long)} are redirected too, so while the clock is changed they are measured by
+ * the changed clock (see {@code io.github.gallyamb.time.sleep} system property)
+ * <p>
+ * The agent could be attached at JVM start via {@code -javaagent:time-test-agent.jar} or installed at runtime via
+ * {@link #install()}. In the latter case, already loaded classes are retransformed. Some
+ * {@link io.github.gallyamb.time.ClockHandler} (e.g. {@code time-test-plain}) still has to be used to change the clock
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * TimeAgent.install();
+ *
+ * NowTest.withUtcMoment(Instant.EPOCH, () -> {
+ *     // even code, that does not use Now, sees the changed clock
+ *     Assertions.assertEquals(0, System.currentTimeMillis());
+ * });
+ * </pre>
+ */
+public final class TimeAgent {
+    private static final List<String> IGNORED_PREFIXES = List.of(
+            "java.",
+            "javax.",
+            "jdk.",
+            "sun.",
+            "com.sun.",
+            "net.bytebuddy.",
+            "org.mockito."
+    );
+    /**
+     * Prefix of the library packages. Its runtime would recursively call itself, if instrumented (e.g. a handler, that
+     * obtains a system clock), so the whole library is ignored except its own tests
+     */
+    private static final String LIBRARY_PREFIX = "io.github.gallyamb.time.";
+    /**
+     * Suffix of the nested packages of the library tests, e.g. {@code io.github.gallyamb.time.test.agent.test}
+     */
+    private static final String LIBRARY_TEST_SUFFIX = ".test";
+    private static boolean installed;
+
+    private TimeAgent() {
+    }
+
+    /**
+     * Entry point of the agent attached via {@code -javaagent}
+     */
+    public static void premain(String arguments, Instrumentation instrumentation) {
+        install(instrumentation);
+    }
+
+    /**
+     * Entry point of the agent attached to a running JVM
+     */
+    public static void agentmain(String arguments, Instrumentation instrumentation) {
+        install(instrumentation);
+    }
+
+    /**
+     * Attaches the agent to the current JVM. Does nothing, if the agent is already installed
+     */
+    public static void install() {
+        install(ByteBuddyAgent.install());
+    }
+
+    /**
+     * Installs the agent using given {@link Instrumentation}. Does nothing, if the agent is already installed
+     *
+     * @param instrumentation instrumentation, that supports retransformation of classes
+     */
+    public static synchronized void install(Instrumentation instrumentation) {
+        if (installed) {
+            return;
+        }
+
+        AsmVisitorWrapper substitution = substitution();
+        new AgentBuilder.Default()
+                .disableClassFormatChanges()
+                .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                .assureReadEdgeTo(instrumentation, TimeBridge.class)
+                .ignore(TimeAgent::isIgnored)
+                .type(ElementMatchers.any())
+                .transform((builder, type, classLoader, module, protectionDomain) -> builder.visit(substitution))
+                .installOn(instrumentation);
+        installed = true;
+    }
+
+    private static AsmVisitorWrapper substitution() {
+        MemberSubstitution substitution = MemberSubstitution.relaxed();
+        substitution = replace(substitution, System.class, "currentTimeMillis");
+        substitution = replace(substitution, System.class, "nanoTime");
+        substitution = replace(substitution, Clock.class, "systemUTC");
+        substitution = replace(substitution, Clock.class, "systemDefaultZone");
+        substitution = replace(substitution, Clock.class, "system", ZoneId.class);
+        substitution = replace(substitution, Instant.class, "now");
+        substitution = replace(substitution, Thread.class, "sleep", long.class);
+        substitution = replace(substitution, Thread.class, "sleep", long.class, int.class);
+        substitution = replace(substitution, TimeUnit.class, "sleep", long.class);
+        substitution = replace(substitution, LockSupport.class, "parkNanos", long.class);
+        substitution = replace(substitution, LockSupport.class, "parkNanos", Object.class, long.class);
+        substitution = replace(substitution, LockSupport.class, "parkUntil", long.class);
+        substitution = replace(substitution, LockSupport.class, "parkUntil", Object.class, long.class);
+        for (Class<?> type : List.of(
+                LocalDate.class,
+                LocalTime.class,
+                LocalDateTime.class,
+                OffsetTime.class,
+                OffsetDateTime.class,
+                ZonedDateTime.class,
+                Year.class,
+                YearMonth.class,
+                MonthDay.class
+        )) {
+            substitution = replace(substitution, type, "now");
+            substitution = replace(substitution, type, "now", ZoneId.class);
+        }
+        return substitution.on(ElementMatchers.any());
+    }
+
+    private static MemberSubstitution replace(
+            MemberSubstitution substitution,
+            Class<?> type,
+            String name,
+            Class<?>... parameterTypes
+    ) {
+        String simpleName = type.getSimpleName();
+        String bridgeName = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1)
+                + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        try {
+            Method method = type.getMethod(name, parameterTypes);
+            Class<?>[] bridgeParameterTypes = parameterTypes;
+            if (!Modifier.isStatic(method.getModifiers())) {
+                bridgeParameterTypes = new Class<?>[parameterTypes.length + 1];
+                bridgeParameterTypes[0] = type;
+                System.arraycopy(parameterTypes, 0, bridgeParameterTypes, 1, parameterTypes.length);
+            }
+            return substitution.method(ElementMatchers.is(method))
+                    .replaceWith(TimeBridge.class.getMethod(bridgeName, bridgeParameterTypes));
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException("No bridge method for %s.%s".formatted(type.getName(), name), ex);
+        }
+    }
+
+    private static boolean isIgnored(
+            TypeDescription type,
+            ClassLoader classLoader,
+            JavaModule module,
+            Class<?> classBeingRedefined,
+            ProtectionDomain protectionDomain
+    ) {
+        if (classLoader == null || classLoader == ClassLoader.getPlatformClassLoader() || type.isSynthetic()) {
+            return true;
+        }
+
+        String name = type.getName();
+        for (String prefix : IGNORED_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        int packageEnd = name.lastIndexOf('.');
+        String packageName = packageEnd < 0 ? "" : name.substring(0, packageEnd);
+        if (packageName.startsWith(LIBRARY_PREFIX)) {
+            return !packageName.substring(LIBRARY_PREFIX.length()).endsWith(LIBRARY_TEST_SUFFIX);
+        }
+
+        // custom clocks and handlers are used by the bridge, so they have to see real time sources
+        return type.isAssignableTo(Clock.class)
+                || type.isAssignableTo(ClockHandler.class);
+    }
+}
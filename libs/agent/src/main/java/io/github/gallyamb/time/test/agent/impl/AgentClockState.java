@@ -0,0 +1,85 @@
+package io.github.gallyamb.time.test.agent.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.gallyamb.time.ClockStateListener;
+import io.github.gallyamb.time.internal.InternalClockHandler;
+
+/**
+ * Internal component, that tracks whether clock is changed, so {@link System#nanoTime()} can keep using the real
+ * monotonic timer until then
+ * <p>
+ * The redirected {@link System#nanoTime()} is the real one plus an offset, that's accumulated at clock change points.
+ * When the clock is changed, the timer is anchored at its current value and then follows the virtual time elapsed
+ * since the anchor, so it neither jumps to the epoch-based value of the changed clock nor overflows. When the clock is
+ * reset, the offset is adjusted, so the timer continues from the last returned value. The timer never goes backwards,
+ * even if the clock is set to an earlier moment
+ */
+public class AgentClockState implements ClockStateListener {
+    private static final AtomicLong LAST_NANO_TIME = new AtomicLong(Long.MIN_VALUE);
+
+    private static volatile boolean changed;
+    /**
+     * Offset of the redirected timer from the real one, that's used while the clock is not changed
+     */
+    private static volatile long offset;
+    private static volatile Anchor anchor;
+
+    /**
+     * @return value of the redirected {@link System#nanoTime()}
+     */
+    public static long nanoTime() {
+        Anchor current = anchor;
+        if (!changed || current == null) {
+            return System.nanoTime() + offset;
+        }
+
+        Instant now = InternalClockHandler.INSTANCE.getClock().instant();
+        long elapsed = saturatedNanos(Duration.between(current.instant, now));
+        long nanoTime = elapsed > Long.MAX_VALUE - current.nanoTime ? Long.MAX_VALUE : current.nanoTime + elapsed;
+        return LAST_NANO_TIME.accumulateAndGet(nanoTime, Math::max);
+    }
+
+    @Override
+    public void notifyClockChanged() {
+        synchronized (AgentClockState.class) {
+            if (!changed) {
+                // every read while the clock is changed is at least the anchor, so it's a lower bound of the last one
+                long nanoTime = System.nanoTime() + offset;
+                LAST_NANO_TIME.accumulateAndGet(nanoTime, Math::max);
+                anchor = new Anchor(nanoTime, InternalClockHandler.INSTANCE.getClock().instant());
+                changed = true;
+            }
+        }
+    }
+
+    @Override
+    public void notifyClockReset() {
+        synchronized (AgentClockState.class) {
+            if (changed) {
+                offset = Math.max(offset, LAST_NANO_TIME.get() - System.nanoTime());
+                changed = false;
+                anchor = null;
+            }
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        if (duration.isNegative()) {
+            return 0;
+        }
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException ex) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Value of the timer and the virtual moment at the point, when the clock was changed
+     */
+    private record Anchor(long nanoTime, Instant instant) {
+    }
+}
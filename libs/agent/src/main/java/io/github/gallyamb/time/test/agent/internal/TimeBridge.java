@@ -0,0 +1,439 @@
+package io.github.gallyamb.time.test.agent.internal;
+
+import java.time.*;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.github.gallyamb.time.internal.InternalClockHandler;
+import io.github.gallyamb.time.test.agent.impl.AgentClockState;
+
+/**
+ * <b>Important notice!</b> This class is public only because instrumented classes have to be able to call it. Please,
+ * do not use it in your code
+ * <p>
+ * Calls of JDK time sources are replaced by {@link io.github.gallyamb.time.test.agent.TimeAgent} with calls of the
+ * static methods of this class with the same signature. Name of every method is a simple name of the declaring class
+ * of the replaced method followed by its name, e.g. {@link System#currentTimeMillis()} is replaced with
+ * {@link #systemCurrentTimeMillis()}. Instance methods are replaced with static ones, that accept the receiver as the
+ * first parameter
+ */
+public final class TimeBridge {
+    private TimeBridge() {
+    }
+
+    private static Clock clock() {
+        return InternalClockHandler.INSTANCE.getClock();
+    }
+
+    /**
+     * @return current time in milliseconds from the epoch of 1970-01-01T00:00:00Z by the current clock
+     *
+     * @see System#currentTimeMillis()
+     */
+    public static long systemCurrentTimeMillis() {
+        return InternalClockHandler.INSTANCE.epochMillis();
+    }
+
+    /**
+     * Until the clock is changed, the real monotonic timer is used. After that, the timer follows the virtual time
+     * elapsed since the clock was changed, so elapsed time is measured in virtual time, but the timer neither jumps nor
+     * goes backwards
+     *
+     * @return current value of the monotonic timer in nanoseconds
+     *
+     * @see System#nanoTime()
+     */
+    public static long systemNanoTime() {
+        return AgentClockState.nanoTime();
+    }
+
+    /**
+     * @return a view of the current clock at UTC time zone, that follows further clock changes
+     *
+     * @see Clock#systemUTC()
+     */
+    public static Clock clockSystemUTC() {
+        return CurrentClockView.UTC;
+    }
+
+    /**
+     * @return a view of the current clock at its default time zone, that follows further clock changes
+     *
+     * @see Clock#systemDefaultZone()
+     */
+    public static Clock clockSystemDefaultZone() {
+        return CurrentClockView.DEFAULT_ZONE;
+    }
+
+    /**
+     * @param zone time zone of the returned clock
+     *
+     * @return a view of the current clock at specified {@code zone} time zone, that follows further clock changes
+     *
+     * @see Clock#system(ZoneId)
+     */
+    public static Clock clockSystem(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        return new CurrentClockView(zone);
+    }
+
+    /**
+     * @return current instant by the current clock
+     *
+     * @see Instant#now()
+     */
+    public static Instant instantNow() {
+        return clock().instant();
+    }
+
+    /**
+     * @return current {@link LocalDate} at default time zone by the current clock
+     *
+     * @see LocalDate#now()
+     */
+    public static LocalDate localDateNow() {
+        return LocalDate.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link LocalDate} at specified {@code zone} time zone by the current clock
+     *
+     * @see LocalDate#now(ZoneId)
+     */
+    public static LocalDate localDateNow(ZoneId zone) {
+        return LocalDate.now(clock().withZone(zone));
+    }
+
+    /**
+     * @return current {@link LocalTime} at default time zone by the current clock
+     *
+     * @see LocalTime#now()
+     */
+    public static LocalTime localTimeNow() {
+        return LocalTime.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link LocalTime} at specified {@code zone} time zone by the current clock
+     *
+     * @see LocalTime#now(ZoneId)
+     */
+    public static LocalTime localTimeNow(ZoneId zone) {
+        return LocalTime.now(clock().withZone(zone));
+    }
+
+    /**
+     * @return current {@link LocalDateTime} at default time zone by the current clock
+     *
+     * @see LocalDateTime#now()
+     */
+    public static LocalDateTime localDateTimeNow() {
+        return LocalDateTime.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link LocalDateTime} at specified {@code zone} time zone by the current clock
+     *
+     * @see LocalDateTime#now(ZoneId)
+     */
+    public static LocalDateTime localDateTimeNow(ZoneId zone) {
+        return LocalDateTime.now(clock().withZone(zone));
+    }
+
+    /**
+     * @return current {@link OffsetTime} at default time zone by the current clock
+     *
+     * @see OffsetTime#now()
+     */
+    public static OffsetTime offsetTimeNow() {
+        return OffsetTime.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link OffsetTime} at specified {@code zone} time zone by the current clock
+     *
+     * @see OffsetTime#now(ZoneId)
+     */
+    public static OffsetTime offsetTimeNow(ZoneId zone) {
+        return OffsetTime.now(clock().withZone(zone));
+    }
+
+    /**
+     * @return current {@link OffsetDateTime} at default time zone by the current clock
+     *
+     * @see OffsetDateTime#now()
+     */
+    public static OffsetDateTime offsetDateTimeNow() {
+        return OffsetDateTime.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link OffsetDateTime} at specified {@code zone} time zone by the current clock
+     *
+     * @see OffsetDateTime#now(ZoneId)
+     */
+    public static OffsetDateTime offsetDateTimeNow(ZoneId zone) {
+        return OffsetDateTime.now(clock().withZone(zone));
+    }
+
+    /**
+     * @return current {@link ZonedDateTime} at default time zone by the current clock
+     *
+     * @see ZonedDateTime#now()
+     */
+    public static ZonedDateTime zonedDateTimeNow() {
+        return ZonedDateTime.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link ZonedDateTime} at specified {@code zone} time zone by the current clock
+     *
+     * @see ZonedDateTime#now(ZoneId)
+     */
+    public static ZonedDateTime zonedDateTimeNow(ZoneId zone) {
+        return ZonedDateTime.now(clock().withZone(zone));
+    }
+
+    /**
+     * @return current {@link Year} at default time zone by the current clock
+     *
+     * @see Year#now()
+     */
+    public static Year yearNow() {
+        return Year.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link Year} at specified {@code zone} time zone by the current clock
+     *
+     * @see Year#now(ZoneId)
+     */
+    public static Year yearNow(ZoneId zone) {
+        return Year.now(clock().withZone(zone));
+    }
+
+    /**
+     * @return current {@link YearMonth} at default time zone by the current clock
+     *
+     * @see YearMonth#now()
+     */
+    public static YearMonth yearMonthNow() {
+        return YearMonth.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link YearMonth} at specified {@code zone} time zone by the current clock
+     *
+     * @see YearMonth#now(ZoneId)
+     */
+    public static YearMonth yearMonthNow(ZoneId zone) {
+        return YearMonth.now(clock().withZone(zone));
+    }
+
+    /**
+     * @return current {@link MonthDay} at default time zone by the current clock
+     *
+     * @see MonthDay#now()
+     */
+    public static MonthDay monthDayNow() {
+        return MonthDay.now(clock());
+    }
+
+    /**
+     * @param zone time zone at which the value will be obtained
+     *
+     * @return current {@link MonthDay} at specified {@code zone} time zone by the current clock
+     *
+     * @see MonthDay#now(ZoneId)
+     */
+    public static MonthDay monthDayNow(ZoneId zone) {
+        return MonthDay.now(clock().withZone(zone));
+    }
+
+    /**
+     * Sleeps for {@code millis}, that are measured by the current clock while it's changed
+     *
+     * @param millis duration of the sleep in milliseconds
+     *
+     * @throws IllegalArgumentException if {@code millis} is negative
+     * @throws InterruptedException     if the thread is interrupted while sleeping
+     * @see Thread#sleep(long)
+     */
+    public static void threadSleep(long millis) throws InterruptedException {
+        if (millis < 0) {
+            throw new IllegalArgumentException("timeout value is negative");
+        }
+        InternalClockHandler.INSTANCE.sleepNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * Sleeps for {@code millis} and {@code nanos}, that are measured by the current clock while it's changed
+     *
+     * @param millis duration of the sleep in milliseconds
+     * @param nanos  additional nanoseconds of the sleep in range 0-999999
+     *
+     * @throws IllegalArgumentException if {@code millis} is negative or {@code nanos} is out of range
+     * @throws InterruptedException     if the thread is interrupted while sleeping
+     * @see Thread#sleep(long, int)
+     */
+    public static void threadSleep(long millis, int nanos) throws InterruptedException {
+        if (millis < 0) {
+            throw new IllegalArgumentException("timeout value is negative");
+        }
+        if (nanos < 0 || nanos > 999_999) {
+            throw new IllegalArgumentException("nanosecond timeout value out of range");
+        }
+        long totalNanos = TimeUnit.MILLISECONDS.toNanos(millis) + nanos;
+        InternalClockHandler.INSTANCE.sleepNanos(totalNanos < 0 ? Long.MAX_VALUE : totalNanos);
+    }
+
+    /**
+     * Sleeps for {@code timeout}, that's measured by the current clock while it's changed
+     *
+     * @param unit    unit of the {@code timeout}, i.e. the receiver of the replaced call
+     * @param timeout duration of the sleep
+     *
+     * @throws InterruptedException if the thread is interrupted while sleeping
+     * @see TimeUnit#sleep(long)
+     */
+    public static void timeUnitSleep(TimeUnit unit, long timeout) throws InterruptedException {
+        InternalClockHandler.INSTANCE.sleepNanos(unit.toNanos(timeout));
+    }
+
+    /**
+     * Parks current thread for {@code nanos}, that are measured by the current clock while it's changed
+     *
+     * @param nanos maximum duration of the park, does nothing if it's not positive
+     *
+     * @see java.util.concurrent.locks.LockSupport#parkNanos(long)
+     */
+    public static void lockSupportParkNanos(long nanos) {
+        lockSupportParkNanos(null, nanos);
+    }
+
+    /**
+     * Parks current thread for {@code nanos}, that are measured by the current clock while it's changed
+     *
+     * @param blocker object responsible for the park
+     * @param nanos   maximum duration of the park, does nothing if it's not positive
+     *
+     * @see java.util.concurrent.locks.LockSupport#parkNanos(Object, long)
+     */
+    public static void lockSupportParkNanos(Object blocker, long nanos) {
+        if (nanos > 0) {
+            InternalClockHandler.INSTANCE.parkNanos(blocker, nanos);
+        }
+    }
+
+    /**
+     * Parks current thread until the {@code deadline} of the current clock
+     *
+     * @param deadline time in milliseconds from the epoch of 1970-01-01T00:00:00Z to wait until
+     *
+     * @see java.util.concurrent.locks.LockSupport#parkUntil(long)
+     */
+    public static void lockSupportParkUntil(long deadline) {
+        lockSupportParkUntil(null, deadline);
+    }
+
+    /**
+     * The {@code deadline} is measured by the current clock, so it's converted to the relative timeout
+     *
+     * @param blocker  object responsible for the park
+     * @param deadline time in milliseconds from the epoch of 1970-01-01T00:00:00Z to wait until
+     *
+     * @see java.util.concurrent.locks.LockSupport#parkUntil(Object, long)
+     */
+    public static void lockSupportParkUntil(Object blocker, long deadline) {
+        long millis = deadline - InternalClockHandler.INSTANCE.epochMillis();
+        if (millis > 0) {
+            InternalClockHandler.INSTANCE.parkNanos(blocker, TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+
+    /**
+     * A view of the current clock with the given zone, or with the zone of the current clock, if the zone is
+     * {@code null}. Every read is delegated to {@link InternalClockHandler#INSTANCE}, so clocks obtained before the
+     * clock is changed (e.g. stored in fields) follow the change
+     * <p>
+     * The view could become a part of the current clock itself, e.g. if it's set as one. Then it stands for the system
+     * clock it replaced, as delegating to the current clock would never end
+     */
+    private static final class CurrentClockView extends Clock {
+        private static final CurrentClockView UTC = new CurrentClockView(ZoneOffset.UTC);
+        private static final CurrentClockView DEFAULT_ZONE = new CurrentClockView(null);
+        private static final ThreadLocal<Boolean> READING = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+        private final ZoneId zone;
+
+        private CurrentClockView(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        private <T> T read(Function<Clock, T> reader) {
+            if (READING.get()) {
+                return reader.apply(zone == null ? Clock.systemDefaultZone() : Clock.system(zone));
+            }
+
+            READING.set(Boolean.TRUE);
+            try {
+                return reader.apply(clock());
+            } finally {
+                READING.set(Boolean.FALSE);
+            }
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone == null ? read(Clock::getZone) : zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            Objects.requireNonNull(zone);
+            return zone.equals(this.zone) ? this : new CurrentClockView(zone);
+        }
+
+        @Override
+        public long millis() {
+            return read(Clock::millis);
+        }
+
+        @Override
+        public Instant instant() {
+            return read(Clock::instant);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CurrentClockView other && Objects.equals(zone, other.zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(zone);
+        }
+
+        @Override
+        public String toString() {
+            return "CurrentClockView[" + zone + "]";
+        }
+    }
+}
@@ -0,0 +1,21 @@
+import io.github.gallyamb.time.ClockStateListener;
+import io.github.gallyamb.time.test.agent.impl.AgentClockState;
+
+/**
+ * This module contains a Java agent, that redirects JDK time sources to the {@link io.github.gallyamb.time.ClockHandler}
+ *
+ * @see io.github.gallyamb.time.test.agent.TimeAgent
+ */
+module io.github.gallyamb.time.test.agent {
+    provides ClockStateListener with AgentClockState;
+
+    exports io.github.gallyamb.time.test.agent;
+    // instrumented classes of any module have to be able to call the bridge
+    exports io.github.gallyamb.time.test.agent.internal;
+
+    requires transitive io.github.gallyamb.time.core;
+
+    requires java.instrument;
+    requires net.bytebuddy;
+    requires net.bytebuddy.agent;
+}
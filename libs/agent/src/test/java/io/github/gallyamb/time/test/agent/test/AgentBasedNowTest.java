@@ -0,0 +1,25 @@
+package io.github.gallyamb.time.test.agent.test;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+import io.github.gallyamb.time.test.agent.TimeAgent;
+import io.github.gallyamb.time.test.core.test.BaseNowTest;
+import org.junit.jupiter.api.BeforeAll;
+
+public class AgentBasedNowTest extends BaseNowTest {
+    @BeforeAll
+    public static void installAgent() {
+        TimeAgent.install();
+    }
+
+    @Override
+    protected OffsetDateTime offsetDateTime() {
+        return OffsetDateTime.now();
+    }
+
+    @Override
+    protected ZonedDateTime zonedDateTime() {
+        return ZonedDateTime.now();
+    }
+}
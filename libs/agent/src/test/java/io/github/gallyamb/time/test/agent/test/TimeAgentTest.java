@@ -0,0 +1,125 @@
+package io.github.gallyamb.time.test.agent.test;
+
+import java.time.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.agent.TimeAgent;
+import io.github.gallyamb.time.test.core.test.ExceptionalRunnable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class TimeAgentTest {
+    private static final Instant MOMENT = Instant.parse("2020-05-12T11:23:55Z");
+
+    @BeforeAll
+    public static void installAgent() {
+        TimeAgent.install();
+    }
+
+    @Test
+    public void testCurrentTimeMillis() {
+        NowTest.withUtcMoment(MOMENT, () -> {
+            Assertions.assertEquals(MOMENT.toEpochMilli(), System.currentTimeMillis());
+        });
+        Assertions.assertNotEquals(MOMENT.toEpochMilli(), System.currentTimeMillis());
+    }
+
+    @Test
+    public void testNanoTimeFollowsTicks() {
+        NowTest.withCurrentMoment(() -> {
+            long start = System.nanoTime();
+            NowTest.tick(Duration.ofHours(1));
+            Assertions.assertEquals(Duration.ofHours(1).toNanos(), System.nanoTime() - start);
+        });
+    }
+
+    @Test
+    public void testNanoTimeDoesNotJumpWhenClockIsChanged() {
+        long before = System.nanoTime();
+        long[] changed = new long[1];
+        NowTest.withUtcMoment(Instant.parse("2200-01-01T00:00:00Z"), () -> {
+            changed[0] = System.nanoTime();
+            NowTest.withUtcMoment(Instant.EPOCH, () -> {
+                Assertions.assertTrue(System.nanoTime() >= changed[0]);
+            });
+        });
+        long after = System.nanoTime();
+
+        Assertions.assertTrue(changed[0] - before < Duration.ofMinutes(1).toNanos());
+        Assertions.assertTrue(after >= changed[0]);
+    }
+
+    @Test
+    public void testSystemClocks() {
+        ZoneId zone = ZoneId.of("Asia/Yekaterinburg");
+        NowTest.withMoment(MOMENT, zone, () -> {
+            Assertions.assertEquals(MOMENT, Instant.now());
+            Assertions.assertEquals(MOMENT, Clock.systemUTC().instant());
+            Assertions.assertEquals(ZoneOffset.UTC, Clock.systemUTC().getZone());
+            Assertions.assertEquals(zone, Clock.systemDefaultZone().getZone());
+            Assertions.assertEquals(MOMENT, Clock.system(ZoneOffset.ofHours(3)).instant());
+            Assertions.assertEquals(LocalDate.parse("2020-05-12"), LocalDate.now());
+            Assertions.assertEquals(LocalTime.parse("13:23:55"), LocalTime.now(ZoneOffset.ofHours(2)));
+        });
+    }
+
+    @Test
+    public void testSystemClocksFollowClockChanges() {
+        ZoneId zone = ZoneId.of("Asia/Yekaterinburg");
+        Clock utc = Clock.systemUTC();
+        Clock defaultZone = Clock.systemDefaultZone();
+        Clock zoned = Clock.system(ZoneOffset.ofHours(3));
+
+        NowTest.withMoment(MOMENT, zone, () -> {
+            Assertions.assertEquals(MOMENT, utc.instant());
+            Assertions.assertEquals(ZoneOffset.UTC, utc.getZone());
+            Assertions.assertEquals(MOMENT, defaultZone.instant());
+            Assertions.assertEquals(zone, defaultZone.getZone());
+            Assertions.assertEquals(MOMENT.toEpochMilli(), zoned.millis());
+
+            NowTest.tick();
+            Assertions.assertEquals(MOMENT.plusSeconds(1), utc.instant());
+        });
+        Assertions.assertNotEquals(MOMENT.plusSeconds(1), utc.instant());
+    }
+
+    @Test
+    public void testClockIsChangedInOtherThreads() {
+        NowTest.withUtcMoment(MOMENT, () -> {
+            // a method reference would be linked directly to Instant.now, so a lambda is used
+            Instant instant = CompletableFuture.supplyAsync(() -> Instant.now()).join();
+            Assertions.assertEquals(MOMENT, instant);
+        });
+    }
+
+    @Test
+    public void testSleepsWakeUpOnTick() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            CountDownLatch wokeUp = new CountDownLatch(2);
+            Thread threadSleeper = new Thread((ExceptionalRunnable) (() -> {
+                Thread.sleep(Duration.ofHours(1).toMillis());
+                wokeUp.countDown();
+            }));
+            Thread timeUnitSleeper = new Thread((ExceptionalRunnable) (() -> {
+                TimeUnit.HOURS.sleep(1);
+                wokeUp.countDown();
+            }));
+            threadSleeper.start();
+            timeUnitSleeper.start();
+            while (threadSleeper.getState() != Thread.State.TIMED_WAITING
+                    || timeUnitSleeper.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+
+            NowTest.tick(Duration.ofMinutes(59));
+            Assertions.assertFalse(wokeUp.await(50, TimeUnit.MILLISECONDS));
+
+            NowTest.tick(Duration.ofMinutes(1));
+            Assertions.assertTrue(wokeUp.await(10, TimeUnit.SECONDS));
+        }));
+    }
+}
@@ -0,0 +1,7 @@
+module io.github.gallyamb.time.test.agent.test {
+    exports io.github.gallyamb.time.test.agent.test;
+
+    requires io.github.gallyamb.time.test.agent;
+    requires io.github.gallyamb.time.test.plain;
+    requires io.github.gallyamb.time.test.core.test;
+}
@@ -0,0 +1,12 @@
+plugins {
+    id("io.github.gallyamb.time.jmh")
+}
+
+dependencies {
+    jmhImplementation(project(":time-core"))
+    jmhImplementation(project(":time-test-plain"))
+    jmhImplementation(project(":time-test-mockito"))
+    jmhImplementation(project(":time-test-simulation"))
+    jmhImplementation(project(":time-journal"))
+    jmhImplementation("org.mockito:mockito-core")
+}
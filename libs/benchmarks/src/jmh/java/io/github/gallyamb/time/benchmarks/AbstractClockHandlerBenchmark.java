@@ -0,0 +1,70 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures time reads through every {@link io.github.gallyamb.time.ClockHandler} implementation. Each benchmark
+ * derives the representation the same way {@link io.github.gallyamb.time.Now} does, so results are comparable with
+ * {@link JavaTimeBenchmark}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractClockHandlerBenchmark {
+    private static final ZoneId ZONE = ZoneId.of("America/Los_Angeles");
+
+    @Benchmark
+    public Instant instant(ClockHandlerState state) {
+        return state.clockHandler.getClock().instant();
+    }
+
+    @Benchmark
+    public long currentTimeMillis(ClockHandlerState state) {
+        return state.clockHandler.getClock().millis();
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTime(ClockHandlerState state) {
+        return OffsetDateTime.now(state.clockHandler.getClock());
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTimeWithZone(ClockHandlerState state) {
+        return OffsetDateTime.now(state.clockHandler.getClock().withZone(ZONE));
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTime(ClockHandlerState state) {
+        return ZonedDateTime.now(state.clockHandler.getClock());
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTimeWithZone(ClockHandlerState state) {
+        return ZonedDateTime.now(state.clockHandler.getClock().withZone(ZONE));
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime(ClockHandlerState state) {
+        return LocalDateTime.now(state.clockHandler.getClock());
+    }
+
+    @Benchmark
+    public LocalDate localDate(ClockHandlerState state) {
+        return LocalDate.now(state.clockHandler.getClock());
+    }
+
+    @Benchmark
+    public LocalDate localDateWithZone(ClockHandlerState state) {
+        return LocalDate.now(state.clockHandler.getClock().withZone(ZONE));
+    }
+
+    @Benchmark
+    public LocalTime localTime(ClockHandlerState state) {
+        return LocalTime.now(state.clockHandler.getClock());
+    }
+}
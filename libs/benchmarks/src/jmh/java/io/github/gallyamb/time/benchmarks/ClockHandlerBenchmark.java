@@ -0,0 +1,10 @@
+package io.github.gallyamb.time.benchmarks;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Single threaded time reads through every {@link io.github.gallyamb.time.ClockHandler} implementation
+ */
+@Threads(1)
+public class ClockHandlerBenchmark extends AbstractClockHandlerBenchmark {
+}
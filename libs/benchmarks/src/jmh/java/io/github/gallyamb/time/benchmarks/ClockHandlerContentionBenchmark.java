@@ -0,0 +1,11 @@
+package io.github.gallyamb.time.benchmarks;
+
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Time reads through every {@link io.github.gallyamb.time.ClockHandler} implementation from many threads at once, so
+ * that any shared state on the read path becomes visible
+ */
+@Threads(8)
+public class ClockHandlerContentionBenchmark extends AbstractClockHandlerBenchmark {
+}
@@ -0,0 +1,60 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.impl.CompositeClockHandler;
+import io.github.gallyamb.time.impl.SystemClockHandler;
+import io.github.gallyamb.time.test.mockito.MockitoClock;
+import io.github.gallyamb.time.test.plain.PlainClock;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Holds a {@link ClockHandler} implementation under benchmark
+ * <p>
+ * Handlers with {@code -fixed} suffix are switched to the fixed clock before measurement, so the benchmark reflects
+ * the cost of reading time in tests, while handlers without suffix reflect the cost of reading time in default state
+ * <p>
+ * Note, that {@link MockitoClock} changes the clock only in the thread that performed the {@link Setup}, so in
+ * multithreaded runs other threads will read the default clock
+ */
+@State(Scope.Benchmark)
+public class ClockHandlerState {
+    private static final Clock FIXED = Clock.fixed(Instant.parse("2020-05-12T11:23:55Z"), ZoneId.of("Europe/Moscow"));
+
+    @Param({
+            "system",
+            "composite",
+            "composite-fixed",
+            "plain",
+            "plain-fixed",
+            "mockito",
+            "mockito-fixed",
+    })
+    public String handler;
+
+    public ClockHandler clockHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clockHandler = switch (handler.replace("-fixed", "")) {
+            case "system" -> new SystemClockHandler();
+            case "composite" -> new CompositeClockHandler(List.of(new PlainClock(), new MockitoClock()));
+            case "plain" -> new PlainClock();
+            case "mockito" -> new MockitoClock();
+            default -> throw new IllegalArgumentException("Unknown handler: %s".formatted(handler));
+        };
+
+        if (handler.endsWith("-fixed")) {
+            clockHandler.setClock(FIXED);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clockHandler.reset();
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.impl.CoarseClockHandler;
+import io.github.gallyamb.time.impl.SystemClockHandler;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares time reads of {@link CoarseClockHandler} with {@link SystemClockHandler}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoarseClockBenchmark {
+    @Param({"system", "coarse"})
+    public String handler;
+
+    private ClockHandler clockHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clockHandler = handler.equals("coarse") ? new CoarseClockHandler() : new SystemClockHandler();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (clockHandler instanceof CoarseClockHandler coarseClockHandler) {
+            coarseClockHandler.close();
+        }
+    }
+
+    @Benchmark
+    public long epochMillis() {
+        return clockHandler.epochMillis();
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return clockHandler.getClock().instant();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long epochMillisContended() {
+        return clockHandler.epochMillis();
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.impl.CompositeClockHandler;
+import io.github.gallyamb.time.impl.SystemClockHandler;
+import io.github.gallyamb.time.test.plain.PlainClock;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the cost of dispatching through {@link io.github.gallyamb.time.internal.InternalClockHandler#INSTANCE}
+ * and {@link CompositeClockHandler} with direct {@link java.time} calls
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HandlerDispatchBenchmark {
+    private final ClockHandler system = new SystemClockHandler();
+    private final ClockHandler composite = new CompositeClockHandler(List.of(new PlainClock()));
+
+    @Benchmark
+    public long currentTimeMillisDirect() {
+        return System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public long currentTimeMillisNow() {
+        return Now.currentTimeMillis();
+    }
+
+    @Benchmark
+    public long currentTimeMillisSystem() {
+        return system.getClock().millis();
+    }
+
+    @Benchmark
+    public long currentTimeMillisComposite() {
+        return composite.getClock().millis();
+    }
+
+    @Benchmark
+    public Instant instantDirect() {
+        return Clock.systemUTC().instant();
+    }
+
+    @Benchmark
+    public Instant instantNow() {
+        return Now.instant();
+    }
+
+    @Benchmark
+    public Instant instantSystem() {
+        return system.getClock().instant();
+    }
+
+    @Benchmark
+    public Instant instantComposite() {
+        return composite.getClock().instant();
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.Now;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares formatting of current time via {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} with garbage-free
+ * {@code Now.isoDateTime} methods. Allocation rate (reported by {@code -prof gc}) is as important here as the time
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IsoDateTimeBenchmark {
+    private static final ZoneId ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final StringBuilder builder = new StringBuilder(Now.ISO_DATE_TIME_MAX_LENGTH);
+    private final char[] chars = new char[Now.ISO_DATE_TIME_MAX_LENGTH];
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(Now.ISO_DATE_TIME_MAX_LENGTH);
+
+    @Benchmark
+    public String formatter() {
+        return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(Now.offsetDateTime(ZONE));
+    }
+
+    @Benchmark
+    public StringBuilder formatterToBuilder() {
+        builder.setLength(0);
+        DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo(Now.offsetDateTime(ZONE), builder);
+        return builder;
+    }
+
+    @Benchmark
+    public StringBuilder isoDateTimeToBuilder() {
+        builder.setLength(0);
+        return Now.isoDateTime(builder, ZONE);
+    }
+
+    @Benchmark
+    public int isoDateTimeToChars() {
+        return Now.isoDateTime(chars, 0, ZONE);
+    }
+
+    @Benchmark
+    public ByteBuffer isoDateTimeToBytes() {
+        bytes.clear();
+        return Now.isoDateTime(bytes, ZONE);
+    }
+}
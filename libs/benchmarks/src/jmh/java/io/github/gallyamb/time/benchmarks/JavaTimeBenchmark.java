@@ -0,0 +1,68 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Baseline: direct {@link java.time} calls, that {@link io.github.gallyamb.time.Now} accessors are compared with
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JavaTimeBenchmark {
+    private static final ZoneId ZONE = ZoneId.of("America/Los_Angeles");
+
+    @Benchmark
+    public Instant instant() {
+        return Instant.now();
+    }
+
+    @Benchmark
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTime() {
+        return OffsetDateTime.now();
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTimeWithZone() {
+        return OffsetDateTime.now(ZONE);
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTime() {
+        return ZonedDateTime.now();
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTimeWithZone() {
+        return ZonedDateTime.now(ZONE);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return LocalDateTime.now();
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return LocalDate.now();
+    }
+
+    @Benchmark
+    public LocalDate localDateWithZone() {
+        return LocalDate.now(ZONE);
+    }
+
+    @Benchmark
+    public LocalTime localTime() {
+        return LocalTime.now();
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.impl.SystemClockHandler;
+import io.github.gallyamb.time.journal.RecordingClockHandler;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the overhead of recording time reads by {@link RecordingClockHandler} compared with
+ * {@link SystemClockHandler}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+    @Param({"system", "recording"})
+    public String handler;
+
+    private Path file;
+    private ClockHandler clockHandler;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("time-journal", ".bin");
+        clockHandler = handler.equals("recording")
+                ? new RecordingClockHandler(file, 1 << 20)
+                : new SystemClockHandler();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long epochNanos() {
+        return clockHandler.epochNanos();
+    }
+
+    @Benchmark
+    public Instant instant() {
+        return clockHandler.getClock().instant();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long epochNanosContended() {
+        return clockHandler.epochNanos();
+    }
+}
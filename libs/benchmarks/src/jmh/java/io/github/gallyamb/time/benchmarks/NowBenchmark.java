@@ -0,0 +1,123 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.*;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.NowSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link Now} accessors as they are. The handler behind {@link Now} is the one discovered on the benchmark
+ * classpath, i.e. {@link io.github.gallyamb.time.impl.CompositeClockHandler} over time-test-plain and
+ * time-test-mockito
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NowBenchmark {
+    private static final ZoneId ZONE = ZoneId.of("America/Los_Angeles");
+
+    @Benchmark
+    public Instant instant() {
+        return Now.instant();
+    }
+
+    @Benchmark
+    public long currentTimeMillis() {
+        return Now.currentTimeMillis();
+    }
+
+    @Benchmark
+    public long unixTimestamp() {
+        return Now.unixTimestamp();
+    }
+
+    @Benchmark
+    public long epochMillis() {
+        return Now.epochMillis();
+    }
+
+    @Benchmark
+    public long epochNanos() {
+        return Now.epochNanos();
+    }
+
+    @Benchmark
+    public long epochDayWithZone() {
+        return Now.epochDay(ZONE);
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTime() {
+        return Now.offsetDateTime();
+    }
+
+    @Benchmark
+    public OffsetDateTime offsetDateTimeWithZone() {
+        return Now.offsetDateTime(ZONE);
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTime() {
+        return Now.zonedDateTime();
+    }
+
+    @Benchmark
+    public ZonedDateTime zonedDateTimeWithZone() {
+        return Now.zonedDateTime(ZONE);
+    }
+
+    @Benchmark
+    public LocalDateTime localDateTime() {
+        return Now.localDateTime();
+    }
+
+    @Benchmark
+    public LocalDate localDate() {
+        return Now.localDate();
+    }
+
+    @Benchmark
+    public LocalDate localDateWithZone() {
+        return Now.localDate(ZONE);
+    }
+
+    @Benchmark
+    public LocalTime localTime() {
+        return Now.localTime();
+    }
+
+    /**
+     * A typical request handler, that needs current time in several representations, reads the clock several times
+     */
+    @Benchmark
+    public void severalRepresentations(Blackhole blackhole) {
+        blackhole.consume(Now.instant());
+        blackhole.consume(Now.localDate(ZONE));
+        blackhole.consume(Now.offsetDateTime(ZONE));
+    }
+
+    @Benchmark
+    public void severalRepresentationsOfSnapshot(Blackhole blackhole) {
+        NowSnapshot now = Now.snapshot();
+        blackhole.consume(now.instant());
+        blackhole.consume(now.localDate(ZONE));
+        blackhole.consume(now.offsetDateTime(ZONE));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Instant instantContended() {
+        return Now.instant();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public OffsetDateTime offsetDateTimeWithZoneContended() {
+        return Now.offsetDateTime(ZONE);
+    }
+}
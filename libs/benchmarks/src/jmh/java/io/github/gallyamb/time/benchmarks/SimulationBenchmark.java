@@ -0,0 +1,165 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.Instant;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.test.simulation.Simulation;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the event throughput of {@link Simulation} in the hold model: every event reschedules itself after a
+ * random delay, so the count of pending events stays the same. And measures the heap retained per pending event
+ * (see {@code bytesPerPendingEvent} secondary result of {@link #retained(RetainedMemory)})
+ * <p>
+ * {@code priority-queue} is a straightforward engine, that keeps events in a {@link PriorityQueue} of entries. It's
+ * kept here as a baseline
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+    private static final Instant START = Instant.parse("2020-05-12T00:00:00Z");
+    private static final int EVENTS_PER_RUN = 1_000_000;
+    private static final int RETAINED_EVENTS = 1_000_000;
+    private static final int MAX_DELAY_NANOS = 1_000_000;
+    private static final Runnable NOOP = () -> {};
+
+    @Param({"simulation", "priority-queue"})
+    public String queue;
+
+    @Param({"1000", "100000"})
+    public int pending;
+
+    private Simulation simulation;
+    private PriorityQueueSimulation baseline;
+    private int remaining;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        switch (queue) {
+            case "simulation" -> {
+                simulation = new Simulation(START);
+                Runnable event = new Runnable() {
+                    @Override
+                    public void run() {
+                        if (--remaining == 0) {
+                            simulation.stop();
+                        }
+                        simulation.scheduleAtNanos(simulation.epochNanos() + random.nextInt(MAX_DELAY_NANOS), this);
+                    }
+                };
+                for (int i = 0; i < pending; i++) {
+                    simulation.scheduleAtNanos(simulation.epochNanos() + random.nextInt(MAX_DELAY_NANOS), event);
+                }
+            }
+            case "priority-queue" -> {
+                baseline = new PriorityQueueSimulation();
+                Runnable event = new Runnable() {
+                    @Override
+                    public void run() {
+                        if (--remaining == 0) {
+                            baseline.stop();
+                        }
+                        baseline.schedule(baseline.nanos + random.nextInt(MAX_DELAY_NANOS), this);
+                    }
+                };
+                for (int i = 0; i < pending; i++) {
+                    baseline.schedule(baseline.nanos + random.nextInt(MAX_DELAY_NANOS), event);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown queue: %s".formatted(queue));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_RUN)
+    public long events() {
+        remaining = EVENTS_PER_RUN;
+        return simulation != null ? simulation.run() : baseline.run();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 3, batchSize = 1)
+    @Measurement(iterations = 10, batchSize = 1)
+    public Object retained(RetainedMemory memory) {
+        long before = usedHeap();
+        Object events;
+        if (simulation != null) {
+            Simulation simulation = new Simulation(START);
+            for (int i = 0; i < RETAINED_EVENTS; i++) {
+                simulation.scheduleAtNanos(simulation.epochNanos() + i, NOOP);
+            }
+            events = simulation;
+        } else {
+            PriorityQueueSimulation baseline = new PriorityQueueSimulation();
+            for (int i = 0; i < RETAINED_EVENTS; i++) {
+                baseline.schedule(baseline.nanos + i, NOOP);
+            }
+            events = baseline;
+        }
+        memory.bytesPerPendingEvent = (double) (usedHeap() - before) / RETAINED_EVENTS;
+        return events;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedMemory {
+        public double bytesPerPendingEvent;
+
+        @Setup(Level.Iteration)
+        public void clean() {
+            bytesPerPendingEvent = 0;
+        }
+    }
+
+    private static final class PriorityQueueSimulation {
+        private final PriorityQueue<Event> events = new PriorityQueue<>();
+        private long sequence;
+        private long nanos;
+        private boolean stopped;
+
+        private void schedule(long nanos, Runnable action) {
+            events.add(new Event(nanos, sequence++, action));
+        }
+
+        private void stop() {
+            stopped = true;
+        }
+
+        private long run() {
+            stopped = false;
+            long count = 0;
+            Event event;
+            while (!stopped && (event = events.poll()) != null) {
+                nanos = event.nanos;
+                count++;
+                event.action.run();
+            }
+            return count;
+        }
+
+        private record Event(long nanos, long sequence, Runnable action) implements Comparable<Event> {
+            @Override
+            public int compareTo(Event other) {
+                int result = Long.compare(nanos, other.nanos);
+                return result != 0 ? result : Long.compare(sequence, other.sequence);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.ClockHandlerRegistry;
+import io.github.gallyamb.time.Now;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures time to the first {@link Now#instant()} in a fresh JVM, i.e. resolution of clock handlers, class loading
+ * and initialization. Every fork measures a single call, so the result is an average over forks
+ * <p>
+ * Benchmarks are run on the class path, where several clock handlers are provided, so {@code discovery} scans them,
+ * while {@code noDiscovery} disables it via {@link ClockHandlerRegistry#DISCOVERY_PROPERTY} the way an application
+ * with only time-core would skip it
+ * <p>
+ * It's friendly to CDS: the classes loaded on the first read could be archived once with
+ * {@code -XX:ArchiveClassesAtExit=time.jsa}, and then the benchmark could be run again with
+ * {@code -XX:SharedArchiveFile=time.jsa} via JMH {@code jvmArgsAppend}
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+    @Benchmark
+    @Fork(20)
+    public Instant discovery() {
+        return Now.instant();
+    }
+
+    @Benchmark
+    @Fork(value = 20, jvmArgsAppend = "-D" + ClockHandlerRegistry.DISCOVERY_PROPERTY + "=false")
+    public Instant noDiscovery() {
+        return Now.instant();
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.gallyamb.time.benchmarks;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.test.mockito.MockitoClock;
+import io.github.gallyamb.time.test.plain.PlainClock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures the cost of a clock change followed by a time read, as {@code NowTest.tick()} in a loop does
+ * <p>
+ * {@code mockito-restubbing} is the former {@link MockitoClock} implementation, that re-stubbed the static mock on
+ * every clock change. It's kept here as a baseline
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TickBenchmark {
+    private static final Instant START = Instant.parse("2020-05-12T11:23:55Z");
+    private static final ZoneId ZONE = ZoneId.of("Europe/Moscow");
+
+    @Param({"plain", "mockito", "mockito-restubbing"})
+    public String handler;
+
+    private ClockHandler clockHandler;
+    private long ticks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        clockHandler = switch (handler) {
+            case "plain" -> new PlainClock();
+            case "mockito" -> new MockitoClock();
+            case "mockito-restubbing" -> new RestubbingMockitoClock();
+            default -> throw new IllegalArgumentException("Unknown handler: %s".formatted(handler));
+        };
+        clockHandler.setClock(Clock.fixed(START, ZONE));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clockHandler.reset();
+    }
+
+    @Benchmark
+    public Instant tick() {
+        clockHandler.setClock(Clock.fixed(START.plusSeconds(++ticks), ZONE));
+        return clockHandler.getClock().instant();
+    }
+
+    private static class RestubbingMockitoClock implements ClockHandler {
+        private MockedStatic<Clock> clock;
+
+        @Override
+        public Clock getClock() {
+            return Clock.systemDefaultZone();
+        }
+
+        @Override
+        public void setClock(Clock newClock) {
+            if (clock == null) {
+                clock = Mockito.mockStatic(Clock.class, InvocationOnMock::callRealMethod);
+            } else {
+                clock.reset();
+            }
+
+            clock.when(Clock::systemUTC)
+                    .thenReturn(newClock.withZone(ZoneOffset.UTC));
+            clock.when(Clock::systemDefaultZone).thenReturn(newClock);
+            clock.when(() -> Clock.system(Mockito.any(ZoneId.class)))
+                    .thenAnswer(invocation -> {
+                        ZoneId zoneId = invocation.getArgument(0, ZoneId.class);
+                        return newClock.withZone(zoneId);
+                    });
+        }
+
+        @Override
+        public void reset() {
+            if (clock != null) {
+                clock.close();
+                clock = null;
+            }
+        }
+    }
+}
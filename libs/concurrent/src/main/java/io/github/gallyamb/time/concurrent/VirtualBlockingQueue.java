@@ -0,0 +1,216 @@
+package io.github.gallyamb.time.concurrent;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import io.github.gallyamb.time.concurrent.impl.ClockWaiters;
+
+/**
+ * A {@link BlockingQueue}, which timeouts of {@link #poll(long, TimeUnit)} and
+ * {@link #offer(Object, long, TimeUnit)} are measured by the current clock. Elements are stored in the delegate queue
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * NowTest.withCurrentMoment(() -> {
+ *     var queue = new VirtualBlockingQueue&lt;String&gt;();
+ *     var polled = CompletableFuture.supplyAsync(() -> queue.poll(30, TimeUnit.SECONDS));
+ *
+ *     // the timeout elapses without waiting for 30 seconds
+ *     NowTest.tick(30);
+ *     Assertions.assertNull(polled.join());
+ * });
+ * </pre>
+ *
+ * @param <E> the type of elements held in this queue
+ */
+public class VirtualBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+    private final BlockingQueue<E> delegate;
+    private final Set<Thread> waiters = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs new unbounded {@link VirtualBlockingQueue}
+     */
+    public VirtualBlockingQueue() {
+        this(new LinkedBlockingQueue<>());
+    }
+
+    /**
+     * Constructs new {@link VirtualBlockingQueue}
+     *
+     * @param delegate the queue to store elements in. It have not to be modified directly, otherwise waiting threads
+     *                 will not be woken up
+     */
+    public VirtualBlockingQueue(BlockingQueue<E> delegate) {
+        this.delegate = Objects.requireNonNull(delegate);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        long deadline = ClockWaiters.deadline(unit.toNanos(timeout));
+        AtomicReference<E> polled = new AtomicReference<>();
+        await(() -> {
+            E element = poll();
+            polled.set(element);
+            return element != null;
+        }, deadline);
+        return polled.get();
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(e);
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        long deadline = ClockWaiters.deadline(unit.toNanos(timeout));
+        return await(() -> offer(e), deadline);
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        offer(e, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return poll(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    private boolean await(BooleanSupplier condition, long deadline) throws InterruptedException {
+        Thread thread = Thread.currentThread();
+        waiters.add(thread);
+        try {
+            return ClockWaiters.await(this, condition, deadline);
+        } finally {
+            waiters.remove(thread);
+        }
+    }
+
+    /**
+     * Wakes up waiting threads, as the queue is changed. Failed attempts do not change the queue, so they do not wake
+     * up anyone, and the current thread does not wake up itself, otherwise waiting threads would spin
+     */
+    private void changed() {
+        Thread current = Thread.currentThread();
+        for (Thread waiter : waiters) {
+            if (waiter != current) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    @Override
+    public boolean offer(E e) {
+        boolean offered = delegate.offer(e);
+        if (offered) {
+            changed();
+        }
+        return offered;
+    }
+
+    @Override
+    public E poll() {
+        E element = delegate.poll();
+        if (element != null) {
+            changed();
+        }
+        return element;
+    }
+
+    @Override
+    public E peek() {
+        return delegate.peek();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return delegate.remainingCapacity();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean removed = delegate.remove(o);
+        if (removed) {
+            changed();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return delegate.contains(o);
+    }
+
+    @Override
+    public void clear() {
+        if (!delegate.isEmpty()) {
+            delegate.clear();
+            changed();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        int drained = delegate.drainTo(c);
+        if (drained > 0) {
+            changed();
+        }
+        return drained;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        int drained = delegate.drainTo(c, maxElements);
+        if (drained > 0) {
+            changed();
+        }
+        return drained;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> iterator = delegate.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                changed();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
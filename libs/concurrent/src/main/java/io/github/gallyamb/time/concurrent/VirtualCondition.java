@@ -0,0 +1,164 @@
+package io.github.gallyamb.time.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.github.gallyamb.time.concurrent.impl.ClockWaiters;
+
+/**
+ * A {@link Condition} of a {@link ReentrantLock}, which timeouts are measured by the current clock. Deadlines of
+ * {@link #awaitUntil(Date)} are measured by the current clock too
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * var lock = new VirtualLock();
+ * var condition = lock.newCondition();
+ *
+ * lock.lock();
+ * try {
+ *     // returns as soon as the clock is ticked by 30 seconds in another thread
+ *     condition.awaitNanos(TimeUnit.SECONDS.toNanos(30));
+ * } finally {
+ *     lock.unlock();
+ * }
+ * </pre>
+ */
+public class VirtualCondition implements Condition {
+    private final ReentrantLock lock;
+    /**
+     * Guarded by the {@link #lock}
+     */
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    /**
+     * Constructs new {@link VirtualCondition}
+     *
+     * @param lock the lock, that has to be held while waiting for the condition or signalling it
+     */
+    public VirtualCondition(ReentrantLock lock) {
+        this.lock = Objects.requireNonNull(lock);
+    }
+
+    @Override
+    public void await() throws InterruptedException {
+        awaitDeadline(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void awaitUninterruptibly() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                await();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public long awaitNanos(long nanosTimeout) throws InterruptedException {
+        long deadline = ClockWaiters.deadline(nanosTimeout);
+        awaitDeadline(deadline);
+        return ClockWaiters.remaining(deadline);
+    }
+
+    @Override
+    public boolean await(long time, TimeUnit unit) throws InterruptedException {
+        return awaitDeadline(ClockWaiters.deadline(unit.toNanos(time)));
+    }
+
+    @Override
+    public boolean awaitUntil(Date deadline) throws InterruptedException {
+        return awaitDeadline(TimeUnit.MILLISECONDS.toNanos(deadline.getTime()));
+    }
+
+    @Override
+    public void signal() {
+        checkHeldByCurrentThread();
+        Waiter waiter = waiters.poll();
+        if (waiter != null) {
+            waiter.signal();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        checkHeldByCurrentThread();
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.signal();
+        }
+    }
+
+    /**
+     * @return whether the thread was signalled before the deadline
+     */
+    private boolean awaitDeadline(long deadline) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        checkHeldByCurrentThread();
+        Waiter waiter = new Waiter(Thread.currentThread());
+        waiters.add(waiter);
+        int holdCount = lock.getHoldCount();
+        for (int i = 0; i < holdCount; i++) {
+            lock.unlock();
+        }
+
+        InterruptedException interruption = null;
+        try {
+            ClockWaiters.await(this, () -> waiter.signalled, deadline);
+        } catch (InterruptedException ex) {
+            interruption = ex;
+        } finally {
+            for (int i = 0; i < holdCount; i++) {
+                lock.lock();
+            }
+            if (!waiter.signalled) {
+                waiters.remove(waiter);
+            }
+        }
+
+        // the waiter could be signalled after the wait is over, but before the lock is acquired. Such a signal is not
+        // passed to another waiter, so it's not lost only if it's reported
+        if (interruption != null) {
+            if (!waiter.signalled) {
+                throw interruption;
+            }
+            Thread.currentThread().interrupt();
+        }
+        return waiter.signalled;
+    }
+
+    private void checkHeldByCurrentThread() {
+        if (!lock.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException();
+        }
+    }
+
+    private static final class Waiter {
+        private final Thread thread;
+        private volatile boolean signalled;
+
+        private Waiter(Thread thread) {
+            this.thread = thread;
+        }
+
+        private void signal() {
+            signalled = true;
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.gallyamb.time.concurrent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.github.gallyamb.time.concurrent.impl.ClockWaiters;
+
+/**
+ * A {@link CountDownLatch}, which {@link #await(long, TimeUnit) timeouts} are measured by the current clock
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * NowTest.withCurrentMoment(() -> {
+ *     var latch = new VirtualCountDownLatch(1);
+ *     var awaited = CompletableFuture.supplyAsync(() -> latch.await(30, TimeUnit.SECONDS));
+ *
+ *     // the timeout elapses without waiting for 30 seconds
+ *     NowTest.tick(30);
+ *     Assertions.assertFalse(awaited.join());
+ * });
+ * </pre>
+ */
+public class VirtualCountDownLatch extends CountDownLatch {
+    private final Set<Thread> waiters = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs new {@link VirtualCountDownLatch}
+     *
+     * @param count the number of times {@link #countDown()} must be invoked before threads can pass through
+     *              {@link #await()}
+     */
+    public VirtualCountDownLatch(int count) {
+        super(count);
+    }
+
+    @Override
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        long deadline = ClockWaiters.deadline(unit.toNanos(timeout));
+        Thread thread = Thread.currentThread();
+        waiters.add(thread);
+        try {
+            return ClockWaiters.await(this, () -> getCount() == 0, deadline);
+        } finally {
+            waiters.remove(thread);
+        }
+    }
+
+    @Override
+    public void countDown() {
+        super.countDown();
+        if (getCount() == 0) {
+            waiters.forEach(LockSupport::unpark);
+        }
+    }
+}
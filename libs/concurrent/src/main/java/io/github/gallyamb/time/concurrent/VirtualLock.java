@@ -0,0 +1,35 @@
+package io.github.gallyamb.time.concurrent;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ReentrantLock}, which {@link #newCondition() conditions} measure timeouts by the current clock
+ * <p>
+ * Note, that timeouts of {@link #tryLock(long, java.util.concurrent.TimeUnit)} are still measured in real time
+ *
+ * @see VirtualCondition
+ */
+public class VirtualLock extends ReentrantLock {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs new non-fair {@link VirtualLock}
+     */
+    public VirtualLock() {
+    }
+
+    /**
+     * Constructs new {@link VirtualLock}
+     *
+     * @param fair whether the lock should use a fair ordering policy
+     */
+    public VirtualLock(boolean fair) {
+        super(fair);
+    }
+
+    @Override
+    public Condition newCondition() {
+        return new VirtualCondition(this);
+    }
+}
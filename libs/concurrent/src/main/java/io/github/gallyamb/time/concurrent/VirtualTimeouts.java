@@ -0,0 +1,85 @@
+package io.github.gallyamb.time.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.github.gallyamb.time.concurrent.impl.ClockWaiters;
+import io.github.gallyamb.time.concurrent.impl.VirtualTimer;
+
+/**
+ * Replacements of {@link CompletableFuture#orTimeout(long, TimeUnit)} and
+ * {@link CompletableFuture#completeOnTimeout(Object, long, TimeUnit)}, which timeouts are measured by the current
+ * clock
+ * <p>
+ * Timeouts are tracked by a single daemon thread, so clocks confined to a thread (e.g. via mockito-based
+ * {@code MockitoClock}) or to a clock scope are not visible to it. Use a global clock, like the one of
+ * {@code time-test-plain}, to test timeouts
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * NowTest.withCurrentMoment(() -> {
+ *     var future = VirtualTimeouts.orTimeout(new CompletableFuture&lt;String&gt;(), 30, TimeUnit.SECONDS);
+ *
+ *     // the future is completed exceptionally without waiting for 30 seconds
+ *     NowTest.tick(30);
+ *     Assertions.assertThrows(CompletionException.class, future::join);
+ * });
+ * </pre>
+ */
+public final class VirtualTimeouts {
+    private VirtualTimeouts() {
+    }
+
+    /**
+     * Exceptionally completes the {@code future} with a {@link TimeoutException}, if it's not otherwise completed
+     * before the timeout measured by the current clock
+     *
+     * @param future  the future to complete
+     * @param timeout how long to wait before completing exceptionally with a {@link TimeoutException}, in units of
+     *                {@code unit}
+     * @param unit    a {@link TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param <T>     the future's result type
+     *
+     * @return the {@code future}
+     */
+    public static <T> CompletableFuture<T> orTimeout(CompletableFuture<T> future, long timeout, TimeUnit unit) {
+        return onTimeout(future, timeout, unit, () -> future.completeExceptionally(new TimeoutException()));
+    }
+
+    /**
+     * Completes the {@code future} with the given {@code value}, if it's not otherwise completed before the timeout
+     * measured by the current clock
+     *
+     * @param future  the future to complete
+     * @param value   the value to use upon timeout
+     * @param timeout how long to wait before completing normally with the given {@code value}, in units of
+     *                {@code unit}
+     * @param unit    a {@link TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param <T>     the future's result type
+     *
+     * @return the {@code future}
+     */
+    public static <T> CompletableFuture<T> completeOnTimeout(
+            CompletableFuture<T> future,
+            T value,
+            long timeout,
+            TimeUnit unit
+    ) {
+        return onTimeout(future, timeout, unit, () -> future.complete(value));
+    }
+
+    private static <T> CompletableFuture<T> onTimeout(
+            CompletableFuture<T> future,
+            long timeout,
+            TimeUnit unit,
+            Runnable action
+    ) {
+        long deadline = ClockWaiters.deadline(unit.toNanos(timeout));
+        if (!future.isDone()) {
+            Runnable cancellation = VirtualTimer.INSTANCE.schedule(deadline, action);
+            future.whenComplete((result, ex) -> cancellation.run());
+        }
+        return future;
+    }
+}
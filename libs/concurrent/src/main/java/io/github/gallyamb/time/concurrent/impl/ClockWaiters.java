@@ -0,0 +1,121 @@
+package io.github.gallyamb.time.concurrent.impl;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import io.github.gallyamb.time.ClockStateListener;
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.internal.InternalClockHandler;
+
+/**
+ * Internal component, that waits for conditions with deadlines measured by the current clock
+ * <p>
+ * Waiting threads are parked for the remaining time in real time, and are woken up on every clock change, so they
+ * could check the deadline against the changed clock
+ * <p>
+ * While the clock is not changed (e.g. in production), time is measured via {@link System#nanoTime()} aligned with
+ * the epoch, so adjustments of the system clock (e.g. by NTP) do not shorten or lengthen timeouts
+ */
+public class ClockWaiters implements ClockStateListener {
+    private static final Set<Thread> WAITERS = ConcurrentHashMap.newKeySet();
+    /**
+     * The difference between the system clock and {@link System#nanoTime()} at startup
+     */
+    private static final long NANO_TIME_OFFSET = epochNanos(Clock.systemUTC().instant()) - System.nanoTime();
+
+    /**
+     * @return current time in nanoseconds from the epoch of 1970-01-01T00:00:00Z. It's measured by the changed clock,
+     * or via {@link System#nanoTime()}, if the clock is not changed
+     */
+    private static long now() {
+        if (InternalClockHandler.INSTANCE.isClockChanged()) {
+            return Now.epochNanos();
+        }
+        return System.nanoTime() + NANO_TIME_OFFSET;
+    }
+
+    private static long epochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    /**
+     * @param nanos the timeout in nanoseconds
+     *
+     * @return the deadline in nanoseconds from the epoch of 1970-01-01T00:00:00Z, that's measured by the current
+     * clock. Saturates on overflow
+     */
+    public static long deadline(long nanos) {
+        long now = now();
+        long deadline = now + nanos;
+        if (nanos > 0 && deadline < now) {
+            return Long.MAX_VALUE;
+        }
+        return deadline;
+    }
+
+    /**
+     * @param deadline the deadline obtained via {@link #deadline(long)}
+     *
+     * @return the nanoseconds remaining until the {@code deadline}, or zero if the deadline is passed
+     */
+    public static long remaining(long deadline) {
+        long now = now();
+        if (now >= deadline) {
+            return 0;
+        }
+        long remaining = deadline - now;
+        // the clock could be set far back in the past, so saturate on overflow
+        return remaining < 0 ? Long.MAX_VALUE : remaining;
+    }
+
+    /**
+     * Waits until the {@code condition} is met or the {@code deadline} is passed. The caller is responsible for
+     * unparking the current thread, when the {@code condition} could be changed
+     *
+     * @param blocker   the synchronization object responsible for the thread parking
+     * @param condition the condition to wait for. It's evaluated in the current thread
+     * @param deadline  the deadline obtained via {@link #deadline(long)}
+     *
+     * @return whether the {@code condition} is met
+     *
+     * @throws InterruptedException if current thread is interrupted while waiting
+     */
+    public static boolean await(Object blocker, BooleanSupplier condition, long deadline) throws InterruptedException {
+        Thread thread = Thread.currentThread();
+        // registration precedes the checks, so a clock change between them unparks the thread
+        WAITERS.add(thread);
+        try {
+            while (true) {
+                if (condition.getAsBoolean()) {
+                    return true;
+                }
+
+                long remaining = remaining(deadline);
+                if (remaining <= 0) {
+                    return false;
+                }
+
+                LockSupport.parkNanos(blocker, remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            WAITERS.remove(thread);
+        }
+    }
+
+    @Override
+    public void notifyClockChanged() {
+        WAITERS.forEach(LockSupport::unpark);
+    }
+
+    @Override
+    public void notifyClockReset() {
+        WAITERS.forEach(LockSupport::unpark);
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.gallyamb.time.concurrent.impl;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Internal component, that runs actions at deadlines measured by the current clock. Actions are run in a single
+ * daemon thread, which is started on the first {@link #schedule(long, Runnable) scheduling}
+ */
+public class VirtualTimer {
+    public static final VirtualTimer INSTANCE = new VirtualTimer();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /**
+     * Guarded by the {@link #lock}
+     */
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    /**
+     * Guarded by the {@link #lock}
+     */
+    private long sequence;
+    /**
+     * Guarded by the {@link #lock}
+     */
+    private Thread thread;
+    private volatile long modCount;
+
+    private VirtualTimer() {
+    }
+
+    /**
+     * Schedules the {@code action} to be run once at the {@code deadline}
+     *
+     * @param deadline the deadline obtained via {@link ClockWaiters#deadline(long)}
+     * @param action   the action to run. It have to be short and must not throw exceptions
+     *
+     * @return the handle to cancel the scheduled {@code action} with
+     */
+    public Runnable schedule(long deadline, Runnable action) {
+        Entry entry;
+        Thread thread;
+        lock.lock();
+        try {
+            entry = new Entry(deadline, sequence++, action);
+            queue.add(entry);
+            modCount++;
+            thread = startIfNeeded();
+        } finally {
+            lock.unlock();
+        }
+
+        LockSupport.unpark(thread);
+        return () -> cancel(entry);
+    }
+
+    private void cancel(Entry entry) {
+        lock.lock();
+        try {
+            if (queue.remove(entry)) {
+                modCount++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Thread startIfNeeded() {
+        if (thread == null) {
+            thread = new Thread(this::loop, "virtual-timer");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return thread;
+    }
+
+    private void loop() {
+        while (true) {
+            long observedModCount;
+            long deadline;
+            Entry due = null;
+            lock.lock();
+            try {
+                observedModCount = modCount;
+                Entry head = queue.peek();
+                deadline = head == null ? Long.MAX_VALUE : head.deadline;
+                if (head != null && ClockWaiters.remaining(deadline) == 0) {
+                    due = queue.poll();
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (due != null) {
+                due.action.run();
+                continue;
+            }
+
+            try {
+                ClockWaiters.await(this, () -> modCount != observedModCount, deadline);
+            } catch (InterruptedException ex) {
+                // nobody is expected to interrupt the timer thread, so just recheck the queue
+            }
+        }
+    }
+
+    private record Entry(long deadline, long sequence, Runnable action) implements Comparable<Entry> {
+        @Override
+        public int compareTo(Entry other) {
+            int result = Long.compare(deadline, other.deadline);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
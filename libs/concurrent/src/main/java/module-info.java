@@ -0,0 +1,18 @@
+import io.github.gallyamb.time.ClockStateListener;
+import io.github.gallyamb.time.concurrent.impl.ClockWaiters;
+
+/**
+ * This module contains concurrency primitives, which timeouts are measured by the current clock
+ * <p>
+ * Unlike their {@link java.util.concurrent} counterparts, they could be used in code, that's tested with changed
+ * clock, so timeouts elapse as soon as the clock passes them
+ *
+ * @see io.github.gallyamb.time.concurrent.VirtualTimeouts
+ */
+module io.github.gallyamb.time.concurrent {
+    provides ClockStateListener with ClockWaiters;
+
+    exports io.github.gallyamb.time.concurrent;
+
+    requires transitive io.github.gallyamb.time.core;
+}
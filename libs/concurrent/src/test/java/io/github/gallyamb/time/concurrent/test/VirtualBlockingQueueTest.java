@@ -0,0 +1,94 @@
+package io.github.gallyamb.time.concurrent.test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.concurrent.VirtualBlockingQueue;
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.core.test.ExceptionalRunnable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualBlockingQueueTest {
+    @Test
+    public void testPollTimeoutElapsesOnTick() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualBlockingQueue<String> queue = new VirtualBlockingQueue<>();
+            CompletableFuture<String> polled = new CompletableFuture<>();
+            Thread poller = new Thread((ExceptionalRunnable) (() -> polled.complete(queue.poll(30, TimeUnit.SECONDS))));
+            poller.start();
+            Waiting.awaitBlocked(poller);
+
+            NowTest.tick(30);
+            Assertions.assertNull(polled.get(10, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testWaitingPollersDoNotSpin() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualBlockingQueue<String> queue = new VirtualBlockingQueue<>();
+            Thread first = new Thread((ExceptionalRunnable) (() -> queue.poll(30, TimeUnit.SECONDS)));
+            Thread second = new Thread((ExceptionalRunnable) (() -> queue.poll(30, TimeUnit.SECONDS)));
+            first.start();
+            second.start();
+            Waiting.awaitBlocked(first);
+            Waiting.awaitBlocked(second);
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            long cpuTime = threads.getThreadCpuTime(first.getId()) + threads.getThreadCpuTime(second.getId());
+            Thread.sleep(200);
+            cpuTime = threads.getThreadCpuTime(first.getId()) + threads.getThreadCpuTime(second.getId()) - cpuTime;
+            Assertions.assertTrue(cpuTime < Duration.ofMillis(50).toNanos(), "CPU time: %s ns".formatted(cpuTime));
+
+            NowTest.tick(30);
+            first.join();
+            second.join();
+        }));
+    }
+
+    @Test
+    public void testPollTimeoutElapsesInRealTimeWhenClockIsNotChanged() throws InterruptedException {
+        VirtualBlockingQueue<String> queue = new VirtualBlockingQueue<>();
+        long start = System.nanoTime();
+        Assertions.assertNull(queue.poll(50, TimeUnit.MILLISECONDS));
+        Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    public void testOfferWakesUpPoller() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualBlockingQueue<String> queue = new VirtualBlockingQueue<>();
+            CompletableFuture<String> polled = new CompletableFuture<>();
+            Thread poller = new Thread((ExceptionalRunnable) (() -> polled.complete(queue.poll(30, TimeUnit.SECONDS))));
+            poller.start();
+            Waiting.awaitBlocked(poller);
+
+            queue.offer("element");
+            Assertions.assertEquals("element", polled.get(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(queue.isEmpty());
+        }));
+    }
+
+    @Test
+    public void testOfferTimeoutElapsesOnTick() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualBlockingQueue<String> queue = new VirtualBlockingQueue<>(new ArrayBlockingQueue<>(1));
+            queue.add("first");
+            CompletableFuture<Boolean> offered = new CompletableFuture<>();
+            Thread offerer = new Thread((ExceptionalRunnable) (
+                    () -> offered.complete(queue.offer("second", 30, TimeUnit.SECONDS))
+            ));
+            offerer.start();
+            Waiting.awaitBlocked(offerer);
+
+            NowTest.tick(30);
+            Assertions.assertFalse(offered.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, queue.size());
+        }));
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.gallyamb.time.concurrent.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+
+import io.github.gallyamb.time.concurrent.VirtualLock;
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.core.test.ExceptionalRunnable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualConditionTest {
+    @Test
+    public void testTimeoutElapsesOnTick() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualLock lock = new VirtualLock();
+            Condition condition = lock.newCondition();
+            CompletableFuture<Boolean> awaited = new CompletableFuture<>();
+            Thread waiter = new Thread((ExceptionalRunnable) (() -> {
+                lock.lock();
+                try {
+                    awaited.complete(condition.await(30, TimeUnit.SECONDS));
+                    Assertions.assertTrue(lock.isHeldByCurrentThread());
+                } finally {
+                    lock.unlock();
+                }
+            }));
+            waiter.start();
+            Waiting.awaitBlocked(waiter);
+
+            // the lock is released while waiting
+            Assertions.assertTrue(lock.tryLock());
+            lock.unlock();
+
+            NowTest.tick(30);
+            Assertions.assertFalse(awaited.get(10, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testSignalAfterTimeoutIsNotLost() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualLock lock = new VirtualLock();
+            Condition condition = lock.newCondition();
+            CompletableFuture<Boolean> awaited = new CompletableFuture<>();
+            Thread waiter = new Thread((ExceptionalRunnable) (() -> {
+                lock.lock();
+                try {
+                    awaited.complete(condition.await(30, TimeUnit.SECONDS));
+                } finally {
+                    lock.unlock();
+                }
+            }));
+            waiter.start();
+            Waiting.awaitBlocked(waiter);
+
+            lock.lock();
+            try {
+                // the timeout elapses, but the waiter could not acquire the lock to return yet
+                NowTest.tick(30);
+                while (!lock.hasQueuedThread(waiter)) {
+                    Thread.sleep(1);
+                }
+                condition.signal();
+            } finally {
+                lock.unlock();
+            }
+            Assertions.assertTrue(awaited.get(10, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testSignalWakesUpWaiter() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualLock lock = new VirtualLock();
+            Condition condition = lock.newCondition();
+            CompletableFuture<Long> remaining = new CompletableFuture<>();
+            Thread waiter = new Thread((ExceptionalRunnable) (() -> {
+                lock.lock();
+                try {
+                    remaining.complete(condition.awaitNanos(TimeUnit.SECONDS.toNanos(30)));
+                } finally {
+                    lock.unlock();
+                }
+            }));
+            waiter.start();
+            Waiting.awaitBlocked(waiter);
+
+            NowTest.tick(10);
+            lock.lock();
+            try {
+                condition.signal();
+            } finally {
+                lock.unlock();
+            }
+            Assertions.assertEquals(TimeUnit.SECONDS.toNanos(20), remaining.get(10, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testAwaitWithoutLock() {
+        Condition condition = new VirtualLock().newCondition();
+        Assertions.assertThrows(IllegalMonitorStateException.class, condition::await);
+        Assertions.assertThrows(IllegalMonitorStateException.class, condition::signal);
+    }
+}
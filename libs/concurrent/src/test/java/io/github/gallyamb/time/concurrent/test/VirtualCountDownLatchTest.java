@@ -0,0 +1,48 @@
+package io.github.gallyamb.time.concurrent.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.concurrent.VirtualCountDownLatch;
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.core.test.ExceptionalRunnable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualCountDownLatchTest {
+    @Test
+    public void testTimeoutElapsesOnTick() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualCountDownLatch latch = new VirtualCountDownLatch(1);
+            CompletableFuture<Boolean> awaited = new CompletableFuture<>();
+            Thread waiter = new Thread((ExceptionalRunnable) (
+                    () -> awaited.complete(latch.await(30, TimeUnit.SECONDS))
+            ));
+            waiter.start();
+            Waiting.awaitBlocked(waiter);
+
+            NowTest.tick(29);
+            Assertions.assertFalse(awaited.isDone());
+
+            NowTest.tick(1);
+            Assertions.assertFalse(awaited.get(10, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testCountDownWakesUpWaiter() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualCountDownLatch latch = new VirtualCountDownLatch(2);
+            CompletableFuture<Boolean> awaited = new CompletableFuture<>();
+            Thread waiter = new Thread((ExceptionalRunnable) (
+                    () -> awaited.complete(latch.await(30, TimeUnit.SECONDS))
+            ));
+            waiter.start();
+            Waiting.awaitBlocked(waiter);
+
+            latch.countDown();
+            latch.countDown();
+            Assertions.assertTrue(awaited.get(10, TimeUnit.SECONDS));
+        }));
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.gallyamb.time.concurrent.test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.github.gallyamb.time.concurrent.VirtualTimeouts;
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.core.test.ExceptionalRunnable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualTimeoutsTest {
+    @Test
+    public void testOrTimeout() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            VirtualTimeouts.orTimeout(future, 30, TimeUnit.SECONDS);
+
+            NowTest.tick(29);
+            Assertions.assertFalse(future.isDone());
+
+            NowTest.tick(1);
+            ExecutionException ex = Assertions.assertThrows(
+                    ExecutionException.class,
+                    () -> future.get(10, TimeUnit.SECONDS)
+            );
+            Assertions.assertInstanceOf(TimeoutException.class, ex.getCause());
+        }));
+    }
+
+    @Test
+    public void testCompleteOnTimeout() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            CompletableFuture<String> future = VirtualTimeouts.completeOnTimeout(
+                    new CompletableFuture<>(),
+                    "default",
+                    30,
+                    TimeUnit.SECONDS
+            );
+
+            NowTest.tick(30);
+            Assertions.assertEquals("default", future.get(10, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testCompletedBeforeTimeout() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            CompletableFuture<String> future = new CompletableFuture<>();
+            VirtualTimeouts.orTimeout(future, 30, TimeUnit.SECONDS);
+            future.complete("value");
+
+            NowTest.tick(30);
+            Assertions.assertEquals("value", future.get());
+        }));
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.gallyamb.time.concurrent.test;
+
+final class Waiting {
+    private Waiting() {
+    }
+
+    /**
+     * Waits until the {@code thread} is blocked, so following clock changes are not missed by it
+     */
+    static void awaitBlocked(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.TIMED_WAITING && thread.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+    }
+}
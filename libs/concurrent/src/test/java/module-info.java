@@ -0,0 +1,8 @@
+module io.github.gallyamb.time.concurrent.test {
+    exports io.github.gallyamb.time.concurrent.test;
+
+    requires java.management;
+    requires io.github.gallyamb.time.concurrent;
+    requires io.github.gallyamb.time.test.plain;
+    requires io.github.gallyamb.time.test.core.test;
+}
@@ -0,0 +1,119 @@
+package io.github.gallyamb.time.test;
+
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import io.github.gallyamb.time.test.impl.ClockAwareExecutorService;
+import io.github.gallyamb.time.test.impl.ClockAwareScheduledExecutorService;
+import io.github.gallyamb.time.test.impl.ClockScope;
+
+/**
+ * Wrappers, that propagate the clock scope (see {@link NowTest#isolated(Runnable)}) of the thread, that submits a
+ * task, to the thread, that runs it
+ * <p>
+ * Threads inherit the clock scope of the thread, that spawned them, but pooled threads are usually spawned before a
+ * test is started (e.g. {@link ForkJoinPool#commonPool()}) or by another test. Tasks submitted via these wrappers are
+ * run within the scope, that was active at submit time, so scope-aware handlers (e.g. {@code time-test-scoped}) and
+ * {@link NowTest} work across asynchronous pipelines
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * NowTest.withUtcMoment(Instant.EPOCH, () -> {
+ *     var instant = CompletableFuture.supplyAsync(Now::instant, ClockAware.commonPool()).join();
+ *
+ *     Assertions.assertEquals(Instant.EPOCH, instant);
+ * });
+ * </pre>
+ */
+public final class ClockAware {
+    private ClockAware() {
+    }
+
+    /**
+     * @param task the task to be run within the current clock scope
+     *
+     * @return the task, that runs the {@code task} within the current clock scope in any thread
+     */
+    public static Runnable runnable(Runnable task) {
+        Objects.requireNonNull(task);
+        ClockScope scope = ClockScope.current();
+        return () -> scope.run(task);
+    }
+
+    /**
+     * @param task the task to be run within the current clock scope
+     * @param <T>  type of the task's result
+     *
+     * @return the task, that runs the {@code task} within the current clock scope in any thread
+     */
+    public static <T> Callable<T> callable(Callable<T> task) {
+        Objects.requireNonNull(task);
+        ClockScope scope = ClockScope.current();
+        return () -> scope.call(task);
+    }
+
+    /**
+     * @param task the task to be run within the current clock scope
+     * @param <T>  type of the task's result
+     *
+     * @return the task, that runs the {@code task} within the current clock scope in any thread
+     */
+    public static <T> Supplier<T> supplier(Supplier<T> task) {
+        Objects.requireNonNull(task);
+        ClockScope scope = ClockScope.current();
+        return () -> scope.supply(task);
+    }
+
+    /**
+     * @param executor the executor to be wrapped
+     *
+     * @return the executor, that runs commands within the clock scope of the thread, that submitted them
+     */
+    public static Executor executor(Executor executor) {
+        Objects.requireNonNull(executor);
+        return command -> executor.execute(runnable(command));
+    }
+
+    /**
+     * @param executorService the executor service to be wrapped
+     *
+     * @return the executor service, that runs tasks within the clock scope of the thread, that submitted them
+     */
+    public static ExecutorService executorService(ExecutorService executorService) {
+        return new ClockAwareExecutorService(Objects.requireNonNull(executorService));
+    }
+
+    /**
+     * @param executorService the executor service to be wrapped
+     *
+     * @return the executor service, that runs tasks within the clock scope of the thread, that scheduled them
+     */
+    public static ScheduledExecutorService scheduledExecutorService(ScheduledExecutorService executorService) {
+        return new ClockAwareScheduledExecutorService(Objects.requireNonNull(executorService));
+    }
+
+    /**
+     * Wraps any {@link ThreadFactory}, including virtual threads factories on JDKs, that support them. Unlike
+     * executors, the scope is captured when a thread is created, so pooled threads keep the scope of the thread, that
+     * caused their creation
+     *
+     * @param threadFactory the thread factory to be wrapped
+     *
+     * @return the thread factory, that runs threads within the clock scope of the thread, that created them
+     */
+    public static ThreadFactory threadFactory(ThreadFactory threadFactory) {
+        Objects.requireNonNull(threadFactory);
+        return task -> threadFactory.newThread(runnable(task));
+    }
+
+    /**
+     * Could be passed to {@link CompletableFuture}'s async methods instead of the default executor
+     *
+     * @return {@link ForkJoinPool#commonPool()}, that runs commands within the clock scope of the thread, that
+     * submitted them
+     */
+    public static Executor commonPool() {
+        return executor(ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,402 @@
+package io.github.gallyamb.time.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.github.gallyamb.time.impl.SchedulingClock;
+
+/**
+ * A test harness, that runs concurrent code deterministically in virtual time. Threads started via
+ * {@link #spawn(Runnable)} take turns: only one of them runs at a time, and the next one is chosen by a seeded random
+ * at every scheduling point. So an interleaving, that revealed a race condition, is reproduced by the same seed
+ * <p>
+ * Scheduling points are pauses measured by the clock ({@link io.github.gallyamb.time.Now#sleep(java.time.Duration)},
+ * or {@link Thread#sleep(long)}, {@link java.util.concurrent.TimeUnit#sleep(long)} and
+ * {@link LockSupport#parkNanos(long)} with the Java agent installed), {@link #yieldNow()} calls, and the ends of
+ * threads. The clock stands still while threads run, and advances straight to the nearest deadline only when all
+ * threads are paused, so tests do not waste real time on waiting. An interrupt wakes up a paused thread at the next
+ * scheduling point
+ * <p>
+ * Blocking outside scheduling points (e.g. on a monitor or an untimed lock) is not tracked, so the thread, that
+ * blocks, keeps the turn. Scheduled threads have to interact via scheduling points only, otherwise they may deadlock.
+ * The clock is changed via the current {@link io.github.gallyamb.time.ClockHandler}, so it has to keep the clock
+ * globally (e.g. {@code time-test-plain}), and it must not be changed by other means while the scheduler runs
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * var scheduler = new DeterministicScheduler(seed);
+ * var counter = new AtomicInteger();
+ * scheduler.run(() -> {
+ *     for (int i = 0; i < 2; i++) {
+ *         scheduler.spawn(() -> {
+ *             int value = counter.get();
+ *             DeterministicScheduler.yieldNow(); // the other thread may run here
+ *             counter.set(value + 1);
+ *         });
+ *     }
+ * });
+ *
+ * // fails for some seeds, and the failure is reproduced by the seed
+ * Assertions.assertEquals(2, counter.get());
+ * </pre>
+ */
+public final class DeterministicScheduler {
+    private static final ThreadLocal<Worker> CURRENT = new ThreadLocal<>();
+    private static final Instant DEFAULT_START = Instant.parse("2020-01-01T00:00:00Z");
+
+    private final long seed;
+    private final SplittableRandom random;
+    private final ThreadFactory threadFactory;
+    private final VirtualTime clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition completion = lock.newCondition();
+    /**
+     * Guarded by the {@link #lock}. Both lists are kept in the order of spawning, so choices depend on the seed only
+     */
+    private final List<Worker> ready = new ArrayList<>();
+    private final List<Worker> paused = new ArrayList<>();
+    /**
+     * Guarded by the {@link #lock}, and published to the next thread to run via {@link #current}
+     */
+    private long nanos;
+    private long sequence;
+    private int alive;
+    private Throwable failure;
+    private volatile Worker current;
+    private volatile boolean aborted;
+
+    /**
+     * Constructs new {@link DeterministicScheduler}, that starts at 2020-01-01T00:00:00Z in UTC
+     *
+     * @param seed the seed of choices of the next thread to run
+     */
+    public DeterministicScheduler(long seed) {
+        this(seed, DEFAULT_START, ZoneOffset.UTC, Executors.defaultThreadFactory());
+    }
+
+    /**
+     * Constructs new {@link DeterministicScheduler}
+     *
+     * @param seed          the seed of choices of the next thread to run
+     * @param start         the instant of the clock, when the scheduler starts
+     * @param zone          the time zone of the clock
+     * @param threadFactory the factory of threads to run spawned tasks in
+     */
+    public DeterministicScheduler(long seed, Instant start, ZoneId zone, ThreadFactory threadFactory) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.threadFactory = Objects.requireNonNull(threadFactory);
+        this.nanos = Math.addExact(Math.multiplyExact(start.getEpochSecond(), 1_000_000_000L), start.getNano());
+        this.clock = new VirtualTime(Objects.requireNonNull(zone));
+    }
+
+    /**
+     * @return the seed of choices of the next thread to run
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Lets another scheduled thread to run, if current thread is scheduled by a {@link DeterministicScheduler}.
+     * Otherwise, it's just a hint to the thread scheduler
+     *
+     * @see Thread#yield()
+     */
+    public static void yieldNow() {
+        Worker worker = CURRENT.get();
+        if (worker == null) {
+            Thread.yield();
+            return;
+        }
+        worker.scheduler().yieldNow(worker);
+    }
+
+    /**
+     * Runs the {@code job} and all the tasks spawned by it (or before it) to completion
+     *
+     * @param job the job to be run in a scheduled thread
+     *
+     * @throws AssertionError if any of the scheduled threads failed, or they are paused forever. Its message contains
+     *                        the seed to reproduce the failure with
+     */
+    public void run(Runnable job) {
+        spawn(job);
+        NowTest.withClock(clock, () -> {
+            lock.lock();
+            try {
+                switchTo(next());
+                while (alive > 0 && !aborted) {
+                    completion.awaitUninterruptibly();
+                }
+            } finally {
+                lock.unlock();
+            }
+            return null;
+        });
+
+        lock.lock();
+        try {
+            if (failure != null) {
+                throw new AssertionError("Scheduled thread failed with seed: %s".formatted(seed), failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Spawns new scheduled thread. It runs the {@code task}, when it's chosen to run
+     *
+     * @param task the task to be run
+     */
+    public void spawn(Runnable task) {
+        Objects.requireNonNull(task);
+        lock.lock();
+        try {
+            Worker worker = new Worker(sequence++, task);
+            worker.thread = threadFactory.newThread(worker);
+            ready.add(worker);
+            alive++;
+            worker.thread.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void yieldNow(Worker worker) {
+        lock.lock();
+        try {
+            ready.add(worker);
+            switchTo(next());
+        } finally {
+            lock.unlock();
+        }
+        awaitTurn(worker);
+    }
+
+    /**
+     * @return whether current thread is scheduled by this scheduler, i.e. whether the pause is done
+     */
+    private boolean pause(long nanos) throws InterruptedException {
+        Worker worker = CURRENT.get();
+        if (worker == null || worker.scheduler() != this) {
+            return false;
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+
+        lock.lock();
+        try {
+            long deadline = this.nanos + nanos;
+            worker.deadline = deadline < this.nanos ? Long.MAX_VALUE : deadline;
+            paused.add(worker);
+            switchTo(next());
+        } finally {
+            lock.unlock();
+        }
+        awaitTurn(worker);
+
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+        return true;
+    }
+
+    /**
+     * Chooses the next thread to run. Guarded by the {@link #lock}
+     *
+     * @return the next thread to run or {@code null} if there are no threads to run
+     */
+    private Worker next() {
+        // interrupted threads are woken up, as the interrupting thread reached a scheduling point
+        paused.removeIf(worker -> {
+            if (worker.thread.isInterrupted()) {
+                ready.add(worker);
+                return true;
+            }
+            return false;
+        });
+
+        if (ready.isEmpty() && !paused.isEmpty()) {
+            long deadline = paused.stream()
+                    .mapToLong(worker -> worker.deadline)
+                    .min()
+                    .orElseThrow();
+            if (deadline == Long.MAX_VALUE) {
+                fail(new IllegalStateException("All scheduled threads are paused forever"));
+                return null;
+            }
+
+            nanos = Math.max(nanos, deadline);
+            paused.removeIf(worker -> {
+                if (worker.deadline <= deadline) {
+                    ready.add(worker);
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        if (ready.isEmpty()) {
+            return null;
+        }
+        return ready.remove(random.nextInt(ready.size()));
+    }
+
+    /**
+     * Guarded by the {@link #lock}
+     */
+    private void switchTo(Worker next) {
+        current = next;
+        if (next != null) {
+            LockSupport.unpark(next.thread);
+        }
+    }
+
+    private void awaitTurn(Worker worker) {
+        while (current != worker) {
+            if (aborted) {
+                throw new Aborted();
+            }
+            if (worker.thread.isInterrupted()) {
+                // parking returns immediately, while the interrupt status is set
+                Thread.yield();
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void finished() {
+        lock.lock();
+        try {
+            alive--;
+            if (aborted) {
+                return;
+            }
+            if (alive == 0) {
+                current = null;
+                completion.signalAll();
+            } else {
+                switchTo(next());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void fail(Throwable ex) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = ex;
+            }
+            aborted = true;
+            ready.forEach(worker -> LockSupport.unpark(worker.thread));
+            paused.forEach(worker -> LockSupport.unpark(worker.thread));
+            completion.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final long sequence;
+        private final Runnable task;
+        private Thread thread;
+        /**
+         * Guarded by the {@link #lock}
+         */
+        private long deadline;
+
+        private Worker(long sequence, Runnable task) {
+            this.sequence = sequence;
+            this.task = task;
+        }
+
+        private DeterministicScheduler scheduler() {
+            return DeterministicScheduler.this;
+        }
+
+        @Override
+        public void run() {
+            CURRENT.set(this);
+            try {
+                awaitTurn(this);
+                task.run();
+            } catch (Aborted ex) {
+                // another thread failed, so this one is just unwound
+            } catch (Throwable ex) {
+                fail(ex);
+            } finally {
+                CURRENT.remove();
+                finished();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Worker[" + sequence + "]";
+        }
+    }
+
+    /**
+     * Unwinds scheduled threads, when another one failed
+     */
+    private static final class Aborted extends Error {
+        private static final long serialVersionUID = 1L;
+
+        private Aborted() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * A {@link Clock}, that reads the time of the scheduler, and hands pauses of scheduled threads over to it
+     */
+    private final class VirtualTime extends SchedulingClock {
+        private final ZoneId zone;
+
+        private VirtualTime(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public boolean pause(long nanos) throws InterruptedException {
+            return DeterministicScheduler.this.pause(nanos);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(this.zone) ? this : new VirtualTime(zone);
+        }
+
+        @Override
+        public long millis() {
+            return Math.floorDiv(nanos, 1_000_000L);
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+        }
+    }
+}
@@ -3,7 +3,9 @@ package io.github.gallyamb.time.test;
 import java.time.*;
 import java.util.function.Supplier;
 
+import io.github.gallyamb.time.impl.VirtualClock;
 import io.github.gallyamb.time.internal.InternalClockHandler;
+import io.github.gallyamb.time.test.impl.ClockScope;
 import io.github.gallyamb.time.test.impl.ClockState;
 
 /**
@@ -278,7 +280,7 @@ public class NowTest {
             throw new IllegalArgumentException("Negative durations are not allowed: %s".formatted(offset));
         }
 
-        return withClock(Clock.offset(clock(), offset), job);
+        return withClock(VirtualClock.offset(clock(), offset), job);
     }
 
     /**
@@ -358,10 +360,58 @@ public class NowTest {
             return;
         }
 
-        InternalClockHandler.INSTANCE.setClock(Clock.offset(clock(), duration));
+        InternalClockHandler.INSTANCE.setClock(VirtualClock.offset(clock(), duration));
     }
 
-    private static <T> T withClock(Clock newClock, Supplier<T> job) {
+    /**
+     * Performs the job within a new clock scope, that's inherited by threads spawned by the job. Clock state changes
+     * within the scope are isolated from other scopes, so jobs could be performed in parallel
+     * <p>
+     * Scopes are used only with scope-aware {@link io.github.gallyamb.time.ClockHandler}s, e.g.
+     * {@code io.github.gallyamb.time.test.scoped.ScopedClock}. Other handlers share the clock between all threads, so
+     * the job is performed within the global scope. JUnit5 integration runs every test within its own scope
+     *
+     * <h4>Example</h4>
+     * <pre>
+     * // may be run in parallel with other jobs
+     * NowTest.isolated(() -> {
+     *     NowTest.withCurrentMoment(() -> {
+     *         var start = Now.offsetDateTime();
+     *         NowTest.tick();
+     *
+     *         // not affected by ticks of other jobs
+     *         Assertions.assertEquals(Duration.ofSeconds(1), Duration.between(start, Now.offsetDateTime()));
+     *     });
+     * });
+     * </pre>
+     *
+     * @param job the job to be performed within an isolated clock scope
+     */
+    public static void isolated(Runnable job) {
+        isolated(toSupplier(job));
+    }
+
+    /**
+     * Performs the job within a new clock scope, that's inherited by threads spawned by the job. Clock state changes
+     * within the scope are isolated from other scopes, so jobs could be performed in parallel
+     * <p>
+     * For example see {@link #isolated(Runnable)}
+     *
+     * @param job the job to be performed within an isolated clock scope
+     * @param <T> type of the job's result
+     *
+     * @return result of the job execution
+     */
+    public static <T> T isolated(Supplier<T> job) {
+        ClockScope scope = ClockScope.open();
+        try {
+            return job.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    static <T> T withClock(Clock newClock, Supplier<T> job) {
         boolean clockIsChanged = ClockState.changed();
         Clock oldClock = clock();
         InternalClockHandler.INSTANCE.setClock(newClock);
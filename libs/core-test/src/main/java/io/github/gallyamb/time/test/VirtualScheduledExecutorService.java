@@ -0,0 +1,368 @@
+package io.github.gallyamb.time.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.github.gallyamb.time.internal.InternalClockHandler;
+import io.github.gallyamb.time.test.impl.ClockScope;
+
+/**
+ * A {@link ScheduledExecutorService}, that measures delays in virtual time, i.e. via current clock state. Scheduled
+ * tasks are run as soon as the clock is changed (e.g. via {@link NowTest#tick(java.time.Duration)}) and their time
+ * has come, so tests do not have to wait for them in real time
+ * <p>
+ * By default, due tasks are run synchronously in the thread, that changed the clock (or scheduled a task with no
+ * delay). Alternatively, an {@link Executor} to run them could be supplied
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * NowTest.withCurrentMoment(() -> {
+ *     var executor = new VirtualScheduledExecutorService();
+ *     var counter = new AtomicInteger();
+ *     executor.scheduleAtFixedRate(counter::incrementAndGet, 1, 1, TimeUnit.MINUTES);
+ *
+ *     NowTest.tick(Duration.ofHours(1));
+ *
+ *     // task was run 60 times, but the test did not wait for an hour
+ *     Assertions.assertEquals(60, counter.get());
+ *     executor.shutdown();
+ * });
+ * </pre>
+ * <p>
+ * The executor is bound to the clock scope of the thread, that created it (see {@link NowTest#isolated(Runnable)}), so
+ * only clock changes within the scope trigger tasks, and tasks are run within the scope
+ * <p>
+ * Like {@link ScheduledThreadPoolExecutor}, after {@link #shutdown()} delayed tasks are still run, while periodic
+ * ones are cancelled. Executor have to be shut down, otherwise it will be notified about clock changes forever
+ */
+public class VirtualScheduledExecutorService extends AbstractExecutorService implements ScheduledExecutorService {
+    private final Executor executor;
+    private final ClockScope scope = ClockScope.current();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition termination = lock.newCondition();
+    private final PriorityQueue<VirtualTask<?>> queue = new PriorityQueue<>();
+    private final Runnable clockChangeSubscriber = this::runDueTasks;
+    private final AtomicLong sequence = new AtomicLong();
+    private int active;
+    private boolean draining;
+    private boolean drainAgain;
+    private boolean shutdown;
+    private boolean terminated;
+
+    /**
+     * Constructs new {@link VirtualScheduledExecutorService}, that runs due tasks in the thread, that changed the
+     * clock
+     */
+    public VirtualScheduledExecutorService() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Constructs new {@link VirtualScheduledExecutorService}
+     *
+     * @param executor the executor used to run due tasks
+     */
+    public VirtualScheduledExecutorService(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        scope.subscribe(clockChangeSubscriber);
+    }
+
+    private long now() {
+        return scope.supply(InternalClockHandler.INSTANCE::epochNanos);
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        long delayNanos = unit.toNanos(Math.max(delay, 0));
+        long now = now();
+        long deadline = now + delayNanos;
+        // saturate on overflow, so the task is just never run
+        return deadline < now ? Long.MAX_VALUE : deadline;
+    }
+
+    /**
+     * Runs all tasks, which time has come. Normally, there is no need to call this method, because it's called after
+     * every clock change
+     */
+    public void runDueTasks() {
+        lock.lock();
+        try {
+            if (draining) {
+                // the draining thread will check the queue once again
+                drainAgain = true;
+                return;
+            }
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+
+        while (true) {
+            VirtualTask<?> task;
+            lock.lock();
+            try {
+                task = queue.peek();
+                if (task == null || task.deadline > now()) {
+                    if (!drainAgain) {
+                        draining = false;
+                        return;
+                    }
+                    drainAgain = false;
+                    continue;
+                }
+                queue.poll();
+                active++;
+            } catch (RuntimeException ex) {
+                draining = false;
+                throw ex;
+            } finally {
+                lock.unlock();
+            }
+
+            run(task);
+        }
+    }
+
+    private void run(VirtualTask<?> task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    scope.run(task);
+                } finally {
+                    finished();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            task.cancel(false);
+            finished();
+        }
+    }
+
+    private void finished() {
+        lock.lock();
+        try {
+            active--;
+            tryTerminate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <V> VirtualTask<V> enqueue(VirtualTask<V> task) {
+        lock.lock();
+        try {
+            if (shutdown) {
+                throw new RejectedExecutionException("Executor is shut down");
+            }
+            queue.add(task);
+        } finally {
+            lock.unlock();
+        }
+
+        runDueTasks();
+        return task;
+    }
+
+    private void reschedule(VirtualTask<?> task) {
+        lock.lock();
+        try {
+            if (shutdown) {
+                task.cancel(false);
+                return;
+            }
+            queue.add(task);
+        } finally {
+            lock.unlock();
+        }
+
+        runDueTasks();
+    }
+
+    private void tryTerminate() {
+        if (shutdown && !terminated && active == 0 && queue.isEmpty()) {
+            terminated = true;
+            scope.unsubscribe(clockChangeSubscriber);
+            termination.signalAll();
+        }
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        return enqueue(new VirtualTask<Void>(Executors.callable(command, null), deadline(delay, unit), 0));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Objects.requireNonNull(callable);
+        return enqueue(new VirtualTask<>(callable, deadline(delay, unit), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period have to be positive: %s".formatted(period));
+        }
+        return enqueue(new VirtualTask<Void>(
+                Executors.callable(command, null),
+                deadline(initialDelay, unit),
+                unit.toNanos(period)
+        ));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        Objects.requireNonNull(command);
+        if (delay <= 0) {
+            throw new IllegalArgumentException("Delay have to be positive: %s".formatted(delay));
+        }
+        return enqueue(new VirtualTask<Void>(
+                Executors.callable(command, null),
+                deadline(initialDelay, unit),
+                -unit.toNanos(delay)
+        ));
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        schedule(command, 0, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            List<VirtualTask<?>> periodicTasks = queue.stream()
+                    .filter(VirtualTask::isPeriodic)
+                    .toList();
+            periodicTasks.forEach(task -> task.cancel(false));
+            tryTerminate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        lock.lock();
+        try {
+            shutdown = true;
+            List<Runnable> tasks = new ArrayList<>(queue);
+            queue.clear();
+            tryTerminate();
+            return tasks;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isShutdown() {
+        lock.lock();
+        try {
+            return shutdown;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        lock.lock();
+        try {
+            return terminated;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Unlike delays of scheduled tasks, the {@code timeout} is measured in real time
+     */
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!terminated) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = termination.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private final class VirtualTask<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+        private final long sequence;
+        /**
+         * Zero for one-shot tasks, positive for fixed-rate tasks and negative for fixed-delay tasks
+         */
+        private final long period;
+        private long deadline;
+
+        private VirtualTask(Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.deadline = deadline;
+            this.period = period;
+            this.sequence = VirtualScheduledExecutorService.this.sequence.getAndIncrement();
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return period != 0;
+        }
+
+        @Override
+        public void run() {
+            if (!isPeriodic()) {
+                super.run();
+            } else if (runAndReset()) {
+                deadline = period > 0 ? deadline + period : now() - period;
+                reschedule(this);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                lock.lock();
+                try {
+                    queue.remove(this);
+                    tryTerminate();
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - now(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            if (other instanceof VirtualTask<?> task) {
+                int result = Long.compare(deadline, task.deadline);
+                return result != 0 ? result : Long.compare(sequence, task.sequence);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.gallyamb.time.test.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+
+import io.github.gallyamb.time.test.ClockAware;
+
+/**
+ * Internal component: an {@link ExecutorService}, that runs tasks within the clock scope of the thread, that submitted
+ * them
+ *
+ * @see ClockAware#executorService(ExecutorService)
+ */
+public class ClockAwareExecutorService implements ExecutorService {
+    private final ExecutorService delegate;
+
+    /**
+     * Constructs new {@link ClockAwareExecutorService}
+     *
+     * @param delegate the executor service used to run tasks
+     */
+    public ClockAwareExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    private static <T> List<Callable<T>> callables(Collection<? extends Callable<T>> tasks) {
+        return tasks.stream()
+                .map(ClockAware::callable)
+                .toList();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(ClockAware.runnable(command));
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return delegate.submit(ClockAware.runnable(task));
+    }
+
+    @Override
+    public <T> Future<T> submit(Runnable task, T result) {
+        return delegate.submit(ClockAware.runnable(task), result);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return delegate.submit(ClockAware.callable(task));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        return delegate.invokeAll(callables(tasks));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return delegate.invokeAll(callables(tasks), timeout, unit);
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+            throws InterruptedException, ExecutionException {
+        return delegate.invokeAny(callables(tasks));
+    }
+
+    @Override
+    public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return delegate.invokeAny(callables(tasks), timeout, unit);
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
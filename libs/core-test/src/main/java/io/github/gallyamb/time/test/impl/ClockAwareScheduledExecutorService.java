@@ -0,0 +1,48 @@
+package io.github.gallyamb.time.test.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.test.ClockAware;
+
+/**
+ * Internal component: a {@link ScheduledExecutorService}, that runs tasks within the clock scope of the thread, that
+ * scheduled them
+ *
+ * @see ClockAware#scheduledExecutorService(ScheduledExecutorService)
+ */
+public class ClockAwareScheduledExecutorService extends ClockAwareExecutorService implements ScheduledExecutorService {
+    private final ScheduledExecutorService delegate;
+
+    /**
+     * Constructs new {@link ClockAwareScheduledExecutorService}
+     *
+     * @param delegate the executor service used to run tasks
+     */
+    public ClockAwareScheduledExecutorService(ScheduledExecutorService delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return delegate.schedule(ClockAware.runnable(command), delay, unit);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        return delegate.schedule(ClockAware.callable(callable), delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return delegate.scheduleAtFixedRate(ClockAware.runnable(command), initialDelay, period, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        return delegate.scheduleWithFixedDelay(ClockAware.runnable(command), initialDelay, delay, unit);
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.gallyamb.time.test.impl;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import io.github.gallyamb.time.internal.InternalClockHandler;
+
+/**
+ * Internal component: an isolated clock state, that's bound to a thread and inherited by threads it spawns
+ * <p>
+ * Threads, that were not bound to any scope, share the global one. Scopes are used to run tests in parallel with
+ * scope-aware {@link io.github.gallyamb.time.ClockHandler}s, so each test has its own clock and tracks its own clock
+ * state without affecting other tests. Such handlers have to {@link #enable() enable} scopes. Otherwise the clock is
+ * shared by all threads, so its state is global too, and {@link #open()} returns the global scope
+ * <p>
+ * Spawned threads may outlive the scope (e.g. pooled threads spawned lazily within a test), so a closed scope is
+ * skipped by {@link #current()} in every thread, that it is still bound to, in favor of the scope it was opened in
+ */
+public final class ClockScope {
+    private static final ClockScope GLOBAL = new ClockScope(null);
+    private static volatile boolean enabled;
+    private static final InheritableThreadLocal<ClockScope> CURRENT = new InheritableThreadLocal<>() {
+        @Override
+        protected ClockScope initialValue() {
+            return GLOBAL;
+        }
+    };
+
+    private final ClockScope previous;
+    private final List<Runnable> clockChangeSubscribers = new CopyOnWriteArrayList<>();
+    private volatile Clock clock;
+    private volatile boolean changed;
+    private volatile boolean closed;
+
+    private ClockScope(ClockScope previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * @return the scope bound to the current thread, or the nearest not closed one it was opened in
+     */
+    public static ClockScope current() {
+        ClockScope scope = CURRENT.get();
+        while (scope.closed) {
+            scope = scope.previous;
+        }
+        return scope;
+    }
+
+    /**
+     * Enables scopes. It has to be called by a scope-aware {@link io.github.gallyamb.time.ClockHandler}, when it's
+     * created
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Binds a new scope with default clock state to the current thread, if scopes are {@link #enable() enabled}. The
+     * scope have to be {@link #close() closed} in the same thread
+     *
+     * @return the opened scope, or the global one, if scopes are not enabled
+     */
+    public static ClockScope open() {
+        // handlers are created, when they are resolved, so a scope-aware one could have not enabled scopes yet
+        if (InternalClockHandler.INSTANCE == null || !enabled) {
+            return GLOBAL;
+        }
+
+        ClockScope scope = new ClockScope(current());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Binds the scope, that was bound to the current thread before this one was {@link #open() opened}, if this scope
+     * is bound to the current thread. Other threads, that inherited this scope, fall back to that scope too. Does
+     * nothing for the global scope
+     */
+    public void close() {
+        if (previous == null) {
+            return;
+        }
+
+        closed = true;
+        if (CURRENT.get() == this) {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @param job the job to be performed within this scope in the current thread
+     * @param <T> type of the job's result
+     *
+     * @return result of the job execution
+     *
+     * @throws Exception if the job threw an exception
+     */
+    public <T> T call(Callable<T> job) throws Exception {
+        ClockScope previous = bind();
+        try {
+            return job.call();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @param job the job to be performed within this scope in the current thread
+     * @param <T> type of the job's result
+     *
+     * @return result of the job execution
+     */
+    public <T> T supply(Supplier<T> job) {
+        ClockScope previous = bind();
+        try {
+            return job.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @param job the job to be performed within this scope in the current thread
+     */
+    public void run(Runnable job) {
+        ClockScope previous = bind();
+        try {
+            job.run();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    private ClockScope bind() {
+        ClockScope previous = CURRENT.get();
+        if (previous != this) {
+            CURRENT.set(this);
+        }
+        return previous;
+    }
+
+    /**
+     * @return the clock of this scope, or {@code null}, if the default clock is used
+     */
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * @param clock the clock of this scope, or {@code null} to use the default clock
+     */
+    public void clock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return whether clock is currently changed within this scope
+     */
+    public boolean changed() {
+        return changed;
+    }
+
+    /**
+     * @param subscriber an action to be run in the thread, that changed the clock within this scope, after every
+     *                   clock change
+     */
+    public void subscribe(Runnable subscriber) {
+        clockChangeSubscribers.add(subscriber);
+    }
+
+    /**
+     * @param subscriber an action previously {@link #subscribe(Runnable) subscribed} to clock changes
+     */
+    public void unsubscribe(Runnable subscriber) {
+        clockChangeSubscribers.remove(subscriber);
+    }
+
+    void clockChanged() {
+        changed = true;
+        clockChangeSubscribers.forEach(Runnable::run);
+    }
+
+    void clockReset() {
+        changed = false;
+    }
+}
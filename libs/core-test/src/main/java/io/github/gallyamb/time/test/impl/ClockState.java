@@ -1,29 +1,27 @@
 package io.github.gallyamb.time.test.impl;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 import io.github.gallyamb.time.ClockStateListener;
 
 /**
  * Internal component for clock state tracking
+ * <p>
+ * The state is tracked per {@link ClockScope}, that's bound to the thread, which changed the clock
  */
 public class ClockState implements ClockStateListener {
-    private static final AtomicBoolean CLOCK_IS_CHANGED = new AtomicBoolean(false);
-
     /**
      * @return whether clock is currently changed
      */
     public static boolean changed() {
-        return CLOCK_IS_CHANGED.get();
+        return ClockScope.current().changed();
     }
 
     @Override
     public void notifyClockChanged() {
-        CLOCK_IS_CHANGED.set(true);
+        ClockScope.current().clockChanged();
     }
 
     @Override
     public void notifyClockReset() {
-        CLOCK_IS_CHANGED.set(false);
+        ClockScope.current().clockReset();
     }
 }
@@ -8,6 +8,10 @@ module io.github.gallyamb.time.test.core {
     provides ClockStateListener with ClockState;
 
     exports io.github.gallyamb.time.test;
+    exports io.github.gallyamb.time.test.impl to
+            io.github.gallyamb.time.test.scoped,
+            io.github.gallyamb.time.test.junit,
+            io.github.gallyamb.time.test.simulation;
 
     requires transitive io.github.gallyamb.time.core;
 }
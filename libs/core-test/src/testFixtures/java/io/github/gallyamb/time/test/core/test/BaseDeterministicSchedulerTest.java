@@ -0,0 +1,157 @@
+package io.github.gallyamb.time.test.core.test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.DeterministicScheduler;
+import io.github.gallyamb.time.test.NowTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Base test class that should be used in other modules with specific {@link io.github.gallyamb.time.ClockHandler}
+ * implementations to test {@link DeterministicScheduler} correctness
+ */
+public abstract class BaseDeterministicSchedulerTest {
+    private static final Instant START = Instant.parse("2020-01-01T00:00:00Z");
+
+    private static List<String> interleaving(long seed) {
+        DeterministicScheduler scheduler = new DeterministicScheduler(seed);
+        List<String> steps = Collections.synchronizedList(new ArrayList<>());
+        scheduler.run(() -> {
+            for (int thread = 0; thread < 3; thread++) {
+                int id = thread;
+                scheduler.spawn(() -> {
+                    for (int step = 0; step < 3; step++) {
+                        steps.add(id + ":" + step);
+                        DeterministicScheduler.yieldNow();
+                    }
+                });
+            }
+        });
+        return steps;
+    }
+
+    private static boolean losesUpdate(long seed) {
+        DeterministicScheduler scheduler = new DeterministicScheduler(seed);
+        AtomicInteger counter = new AtomicInteger();
+        scheduler.run(() -> {
+            for (int thread = 0; thread < 2; thread++) {
+                scheduler.spawn(() -> {
+                    int value = counter.get();
+                    DeterministicScheduler.yieldNow();
+                    counter.set(value + 1);
+                });
+            }
+        });
+        return counter.get() != 2;
+    }
+
+    @Test
+    public void testSameSeedReproducesInterleaving() {
+        Assertions.assertEquals(interleaving(42), interleaving(42));
+        long distinctInterleavings = LongStream.range(0, 10)
+                .mapToObj(BaseDeterministicSchedulerTest::interleaving)
+                .distinct()
+                .count();
+        Assertions.assertTrue(distinctInterleavings > 1);
+    }
+
+    @Test
+    public void testRaceIsRevealedBySomeSeeds() {
+        List<Long> failingSeeds = LongStream.range(0, 50)
+                .filter(BaseDeterministicSchedulerTest::losesUpdate)
+                .boxed()
+                .toList();
+
+        Assertions.assertFalse(failingSeeds.isEmpty());
+        failingSeeds.forEach(seed -> Assertions.assertTrue(losesUpdate(seed)));
+    }
+
+    @Test
+    public void testClockAdvancesWhenAllThreadsArePaused() {
+        DeterministicScheduler scheduler = new DeterministicScheduler(0);
+        List<String> wakeUps = Collections.synchronizedList(new ArrayList<>());
+        scheduler.run(() -> {
+            scheduler.spawn((ExceptionalRunnable) (() -> {
+                for (int i = 0; i < 2; i++) {
+                    Now.sleep(Duration.ofHours(1));
+                    wakeUps.add("hourly " + Now.instant());
+                }
+            }));
+            scheduler.spawn((ExceptionalRunnable) (() -> {
+                for (int i = 0; i < 3; i++) {
+                    Now.sleep(Duration.ofMinutes(45));
+                    wakeUps.add("frequent " + Now.instant());
+                }
+            }));
+        });
+
+        Assertions.assertEquals(
+                List.of(
+                        "frequent " + START.plus(Duration.ofMinutes(45)),
+                        "hourly " + START.plus(Duration.ofHours(1)),
+                        "frequent " + START.plus(Duration.ofMinutes(90)),
+                        "hourly " + START.plus(Duration.ofHours(2)),
+                        "frequent " + START.plus(Duration.ofMinutes(135))
+                ),
+                wakeUps
+        );
+    }
+
+    @Test
+    public void testInterruptWakesUpPausedThread() {
+        DeterministicScheduler scheduler = new DeterministicScheduler(0);
+        CompletableFuture<Instant> interruptedAt = new CompletableFuture<>();
+        scheduler.run((ExceptionalRunnable) (() -> {
+            AtomicReference<Thread> sleeper = new AtomicReference<>();
+            scheduler.spawn(() -> {
+                sleeper.set(Thread.currentThread());
+                try {
+                    Now.sleep(Duration.ofDays(1));
+                } catch (InterruptedException ex) {
+                    interruptedAt.complete(Now.instant());
+                }
+            });
+
+            Now.sleep(Duration.ofSeconds(5));
+            sleeper.get().interrupt();
+        }));
+
+        Assertions.assertEquals(START.plusSeconds(5), interruptedAt.join());
+    }
+
+    @Test
+    public void testFailureReportsSeed() {
+        DeterministicScheduler scheduler = new DeterministicScheduler(7);
+        AssertionError error = Assertions.assertThrows(
+                AssertionError.class,
+                () -> scheduler.run(() -> scheduler.spawn(() -> {
+                    throw new IllegalStateException("failure");
+                }))
+        );
+
+        Assertions.assertTrue(error.getMessage().contains("7"));
+        Assertions.assertEquals("failure", error.getCause().getMessage());
+    }
+
+    @Test
+    public void testClockIsRestoredAfterRun() {
+        Instant moment = Instant.parse("2022-02-02T00:00:00Z");
+        NowTest.withUtcMoment(moment, () -> {
+            AtomicReference<Instant> scheduled = new AtomicReference<>();
+            new DeterministicScheduler(0).run(() -> scheduled.set(Now.instant()));
+
+            Assertions.assertEquals(START, scheduled.get());
+            Assertions.assertEquals(moment, Now.instant());
+        });
+    }
+}
@@ -1,10 +1,15 @@
 package io.github.gallyamb.time.test.core.test;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.*;
+import java.time.format.DateTimeFormatter;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.NowSnapshot;
 import io.github.gallyamb.time.test.NowTest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -159,4 +164,171 @@ public abstract class BaseNowTest {
             Assertions.assertEquals(now.plus(duration), offsetDateTime());
         });
     }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2049-09-12T08:44:37.123456789+05:00",
+            "1969-12-31T23:59:59.5Z",
+            "1969-04-01T01:01:33-11:00",
+            "2015-01-17T18:06:58.001-10:00",
+            "1785-01-15T23:14:43-04:00",
+    })
+    public void testPrimitiveAccessors(OffsetDateTime dateTime) {
+        NowTest.withMoment(dateTime, () -> {
+            Instant instant = dateTime.toInstant();
+            Assertions.assertEquals(instant.toEpochMilli(), Now.epochMillis());
+            Assertions.assertEquals(instant.getEpochSecond(), Now.epochSecond());
+            Assertions.assertEquals(instant.getEpochSecond() * 1_000_000_000L + instant.getNano(), Now.epochNanos());
+            Assertions.assertEquals(dateTime.toLocalDate().toEpochDay(), Now.epochDay());
+            Assertions.assertEquals(
+                    LocalDate.ofInstant(instant, ZoneOffset.UTC).toEpochDay(),
+                    Now.epochDay(ZoneOffset.UTC)
+            );
+        });
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2024-03-31T00:59:59Z, Europe/Berlin, +01:00, +02:00",
+            "2024-10-27T00:59:59Z, Europe/Berlin, +02:00, +01:00",
+            "2024-11-03T08:59:59Z, America/Los_Angeles, -07:00, -08:00",
+    })
+    public void testZoneTransitionIsReflected(Instant instant, String zone, String before, String after) {
+        ZoneId zoneId = ZoneId.of(zone);
+        NowTest.withUtcMoment(instant, () -> {
+            Assertions.assertEquals(ZoneOffset.of(before), Now.offsetDateTime(zoneId).getOffset());
+            NowTest.tick();
+            Assertions.assertEquals(ZoneOffset.of(after), Now.offsetDateTime(zoneId).getOffset());
+            Assertions.assertEquals(instant.plusSeconds(1).atZone(zoneId).toLocalDateTime(), Now.localDateTime(zoneId));
+            NowTest.withUtcMoment(instant, () -> {
+                Assertions.assertEquals(ZoneOffset.of(before), Now.offsetDateTime(zoneId).getOffset());
+            });
+        });
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2023-12-31T23:59:59+03:00[Europe/Moscow]",
+            "2024-02-28T23:59:59-08:00[America/Los_Angeles]",
+            "1969-12-31T23:59:59Z[UTC]",
+    })
+    public void testLocalDateRollsOverAtMidnight(ZonedDateTime dateTime) {
+        NowTest.withMoment(dateTime, () -> {
+            Assertions.assertEquals(dateTime.toLocalDate(), Now.localDate());
+            Assertions.assertEquals(dateTime.toLocalDate(), Now.localDate(dateTime.getZone()));
+            NowTest.tick();
+            Assertions.assertEquals(dateTime.toLocalDate().plusDays(1), Now.localDate());
+            Assertions.assertEquals(dateTime.toLocalDate().plusDays(1), Now.localDate(dateTime.getZone()));
+            Assertions.assertEquals(dateTime.toLocalDate().plusDays(1).toEpochDay(), Now.epochDay(dateTime.getZone()));
+        });
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2049-09-12T08:44:37.123456789+05:00[Asia/Yekaterinburg]",
+            "1969-12-31T23:59:59.5Z[UTC]",
+            "2024-03-31T01:59:59.01+01:00[Europe/Berlin]",
+            "1785-01-15T23:14:43-04:56:02[America/New_York]",
+            "2015-01-17T18:06:58.000001+13:45[Pacific/Chatham]",
+    })
+    public void testIsoDateTime(ZonedDateTime dateTime) {
+        NowTest.withMoment(dateTime, () -> {
+            for (int i = 0; i < 3; i++) {
+                String expected = DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(Now.offsetDateTime());
+                Assertions.assertEquals(expected, Now.isoDateTime(new StringBuilder("> ")).substring(2));
+
+                char[] chars = new char[Now.ISO_DATE_TIME_MAX_LENGTH + 1];
+                int length = Now.isoDateTime(chars, 1);
+                Assertions.assertEquals(expected, new String(chars, 1, length));
+
+                ByteBuffer bytes = ByteBuffer.allocate(Now.ISO_DATE_TIME_MAX_LENGTH);
+                Now.isoDateTime(bytes).flip();
+                Assertions.assertEquals(expected, StandardCharsets.US_ASCII.decode(bytes).toString());
+
+                Assertions.assertEquals(
+                        DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(Now.offsetDateTime(ZoneOffset.UTC)),
+                        Now.isoDateTime(new StringBuilder(), ZoneOffset.UTC).toString()
+                );
+                NowTest.tick(Duration.ofMillis(500));
+            }
+        });
+    }
+
+    @Test
+    public void testIsoDateTimeDoesNotFit() {
+        NowTest.withMoment(OffsetDateTime.parse("2020-05-12T11:23:55.123+03:00"), () -> {
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> Now.isoDateTime(new char[29], 1));
+
+            ByteBuffer bytes = ByteBuffer.allocate(28);
+            Assertions.assertThrows(BufferOverflowException.class, () -> Now.isoDateTime(bytes));
+            Assertions.assertEquals(0, bytes.position());
+        });
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "2049-09-12T08:44:37.123456789+05:00[Asia/Yekaterinburg]",
+            "2024-03-31T01:59:59.999+01:00[Europe/Berlin]",
+            "1785-01-15T23:14:43-04:56:02[America/New_York]",
+    })
+    public void testSnapshot(ZonedDateTime dateTime) {
+        ZoneId utc = ZoneOffset.UTC;
+        NowTest.withMoment(dateTime, () -> {
+            NowSnapshot snapshot = Now.snapshot();
+            NowTest.tick();
+
+            Assertions.assertEquals(dateTime.getZone(), snapshot.zone());
+            Assertions.assertEquals(dateTime.toInstant(), snapshot.instant());
+            Assertions.assertEquals(dateTime.toEpochSecond(), snapshot.epochSecond());
+            Assertions.assertEquals(dateTime.toInstant().toEpochMilli(), snapshot.epochMillis());
+            Assertions.assertEquals(dateTime, snapshot.zonedDateTime());
+            Assertions.assertEquals(dateTime.toOffsetDateTime(), snapshot.offsetDateTime());
+            Assertions.assertEquals(dateTime.toLocalDateTime(), snapshot.localDateTime());
+            Assertions.assertEquals(dateTime.toLocalDate(), snapshot.localDate());
+            Assertions.assertEquals(dateTime.toLocalTime(), snapshot.localTime());
+            Assertions.assertEquals(dateTime.toLocalDate().toEpochDay(), snapshot.epochDay());
+
+            ZonedDateTime utcDateTime = dateTime.withZoneSameInstant(utc);
+            Assertions.assertEquals(utcDateTime, snapshot.zonedDateTime(utc));
+            Assertions.assertEquals(utcDateTime.toOffsetDateTime(), snapshot.offsetDateTime(utc));
+            Assertions.assertEquals(utcDateTime.toLocalDate(), snapshot.localDate(utc));
+            Assertions.assertEquals(utcDateTime.toLocalTime(), snapshot.localTime(utc));
+
+            // representations are derived once
+            Assertions.assertSame(snapshot.instant(), snapshot.instant());
+            Assertions.assertSame(snapshot.offsetDateTime(), snapshot.offsetDateTime());
+            Assertions.assertSame(snapshot.zonedDateTime(utc), snapshot.zonedDateTime(utc));
+            Assertions.assertSame(snapshot.localDateTime(), snapshot.offsetDateTime().toLocalDateTime());
+
+            Assertions.assertNotEquals(snapshot.instant(), Now.snapshot().instant());
+        });
+    }
+
+    @Test
+    public void testManyTicks() {
+        int ticksCount = 10_000;
+        NowTest.withCurrentMoment(() -> {
+            OffsetDateTime now = offsetDateTime();
+            for (int i = 0; i < ticksCount; i++) {
+                NowTest.tick(Duration.ofMillis(1));
+            }
+            Assertions.assertEquals(now.plusSeconds(10), offsetDateTime());
+            Assertions.assertEquals(now.plusSeconds(10).toInstant().toEpochMilli(), Now.epochMillis());
+        });
+    }
+
+    @Test
+    public void testNestedOffsets() {
+        NowTest.withCurrentMoment(() -> {
+            OffsetDateTime now = offsetDateTime();
+            NowTest.withOffset(Duration.ofHours(1), () -> {
+                NowTest.tick();
+                NowTest.withOffset(Duration.ofMinutes(1), () -> {
+                    Assertions.assertEquals(now.plusHours(1).plusMinutes(1).plusSeconds(1), offsetDateTime());
+                });
+                Assertions.assertEquals(now.plusHours(1).plusSeconds(1), offsetDateTime());
+            });
+            Assertions.assertEquals(now, offsetDateTime());
+        });
+    }
 }
@@ -0,0 +1,153 @@
+package io.github.gallyamb.time.test.core.test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.VirtualScheduledExecutorService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Base test class that should be used in other modules with specific {@link io.github.gallyamb.time.ClockHandler}
+ * implementations to test {@link VirtualScheduledExecutorService} correctness
+ */
+public abstract class BaseVirtualScheduledExecutorServiceTest {
+
+    @Test
+    public void testDelayedTaskIsRunAfterTick() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+            ScheduledFuture<String> future = executor.schedule(() -> "done", 10, TimeUnit.SECONDS);
+
+            NowTest.tick(9);
+            Assertions.assertFalse(future.isDone());
+            Assertions.assertEquals(1, future.getDelay(TimeUnit.SECONDS));
+
+            NowTest.tick();
+            Assertions.assertTrue(future.isDone());
+            Assertions.assertEquals("done", future.get());
+
+            executor.shutdown();
+            Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testTaskWithoutDelayIsRunImmediately() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+            Future<Integer> future = executor.submit(() -> 42);
+
+            Assertions.assertTrue(future.isDone());
+            Assertions.assertEquals(42, future.get());
+
+            executor.shutdown();
+        }));
+    }
+
+    @Test
+    public void testTasksAreRunInDeadlineOrder() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+            List<Integer> order = new CopyOnWriteArrayList<>();
+            executor.schedule(() -> order.add(3), 3, TimeUnit.SECONDS);
+            executor.schedule(() -> order.add(1), 1, TimeUnit.SECONDS);
+            executor.schedule(() -> order.add(2), 2, TimeUnit.SECONDS);
+            executor.schedule(() -> order.add(4), 2, TimeUnit.SECONDS);
+
+            NowTest.tick(Duration.ofMinutes(1));
+            Assertions.assertEquals(List.of(1, 2, 4, 3), order);
+
+            executor.shutdown();
+        }));
+    }
+
+    @Test
+    public void testFixedRate() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+            AtomicInteger counter = new AtomicInteger();
+            executor.scheduleAtFixedRate(counter::incrementAndGet, 1, 1, TimeUnit.MINUTES);
+
+            NowTest.tick(Duration.ofHours(1));
+            Assertions.assertEquals(60, counter.get());
+
+            executor.shutdown();
+            Assertions.assertTrue(executor.isTerminated());
+        }));
+    }
+
+    @Test
+    public void testFixedDelay() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+            AtomicInteger counter = new AtomicInteger();
+            executor.scheduleWithFixedDelay(counter::incrementAndGet, 1, 1, TimeUnit.SECONDS);
+
+            for (int i = 0; i < 10; i++) {
+                NowTest.tick();
+            }
+            Assertions.assertEquals(10, counter.get());
+
+            executor.shutdown();
+            Assertions.assertTrue(executor.isTerminated());
+        }));
+    }
+
+    @Test
+    public void testCancelledTaskIsNotRun() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+            AtomicInteger counter = new AtomicInteger();
+            ScheduledFuture<?> future = executor.schedule(counter::incrementAndGet, 1, TimeUnit.SECONDS);
+
+            Assertions.assertTrue(future.cancel(false));
+            NowTest.tick(Duration.ofMinutes(1));
+            Assertions.assertEquals(0, counter.get());
+
+            executor.shutdown();
+            Assertions.assertTrue(executor.isTerminated());
+        }));
+    }
+
+    @Test
+    public void testShutdown() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService();
+            ScheduledFuture<String> delayed = executor.schedule(() -> "done", 1, TimeUnit.SECONDS);
+            ScheduledFuture<?> periodic = executor.scheduleAtFixedRate(() -> {}, 1, 1, TimeUnit.SECONDS);
+
+            executor.shutdown();
+            Assertions.assertTrue(periodic.isCancelled());
+            Assertions.assertFalse(executor.isTerminated());
+            Assertions.assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> {}));
+
+            NowTest.tick();
+            Assertions.assertEquals("done", delayed.get());
+            Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testRunsTasksViaSuppliedExecutor() throws InterruptedException {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+                VirtualScheduledExecutorService executor = new VirtualScheduledExecutorService(pool);
+                CountDownLatch latch = new CountDownLatch(1);
+                executor.schedule(latch::countDown, 10, TimeUnit.SECONDS);
+
+                NowTest.tick(10);
+                Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+                executor.shutdown();
+                Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            }));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package io.github.gallyamb.time;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * This interface is responsible for handling clock state changes and reflecting them via {@link #getClock()}. When
@@ -15,6 +18,85 @@ public interface ClockHandler {
      */
     Clock getClock();
 
+    /**
+     * Returns current instant. By default, it's obtained from {@link #getClock()}, but implementations may avoid
+     * resolving the time zone of the clock, that's not needed for an instant
+     *
+     * @return current instant
+     *
+     * @see Clock#instant()
+     */
+    default Instant instant() {
+        return getClock().instant();
+    }
+
+    /**
+     * Returns current time in milliseconds without creating intermediate objects, if implementation is able to. By
+     * default, it's obtained from {@link #getClock()}
+     *
+     * @return current time in milliseconds from the epoch of 1970-01-01T00:00:00Z
+     *
+     * @see Clock#millis()
+     */
+    default long epochMillis() {
+        return getClock().millis();
+    }
+
+    /**
+     * Returns current time in nanoseconds without creating intermediate objects, if implementation is able to. By
+     * default, it's obtained from {@link #getClock()}
+     *
+     * @return current time in nanoseconds from the epoch of 1970-01-01T00:00:00Z
+     *
+     * @throws ArithmeticException if current time does not fit into {@code long} nanoseconds (roughly before 1677 or
+     *                             after 2262 year)
+     */
+    default long epochNanos() {
+        Instant instant = getClock().instant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    /**
+     * Returns whether the clock seen by current thread is changed via {@link #setClock(Clock)}, so pauses could be
+     * measured by it. By default, any clock other than the system one is considered changed
+     *
+     * @return whether the clock of current thread is changed
+     */
+    default boolean isClockChanged() {
+        return getClock().getClass() != Clock.systemUTC().getClass();
+    }
+
+    /**
+     * Pauses current thread for the {@code nanos}. By default, the thread sleeps in real time
+     * <p>
+     * Implementations, that are able to change the clock, may pause the thread until the changed clock passes the
+     * deadline instead
+     *
+     * @param nanos the duration of the pause in nanoseconds. Non-positive values are ignored
+     *
+     * @throws InterruptedException if current thread is interrupted while sleeping
+     *
+     * @see TimeUnit#sleep(long)
+     */
+    default void sleepNanos(long nanos) throws InterruptedException {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+    }
+
+    /**
+     * Disables current thread for thread scheduling purposes for up to the {@code nanos}. By default, it's measured in
+     * real time. Like {@link LockSupport#parkNanos(Object, long)}, this method may return spuriously
+     * <p>
+     * Implementations, that are able to change the clock, may measure the {@code nanos} by the changed clock instead
+     *
+     * @param blocker the synchronization object responsible for the thread parking, or {@code null}
+     * @param nanos   the maximum number of nanoseconds to wait. Non-positive values are ignored
+     *
+     * @see LockSupport#parkNanos(Object, long)
+     */
+    default void parkNanos(Object blocker, long nanos) {
+        LockSupport.parkNanos(blocker, nanos);
+    }
+
     /**
      * This method is invoked when user wants to change the clock state. After this method is returned, the caller
      * expect, that clock, returned via {@link #getClock()} method, will reflect changes
@@ -0,0 +1,56 @@
+package io.github.gallyamb.time;
+
+import io.github.gallyamb.time.internal.ClockDiscovery;
+
+/**
+ * Explicit registration of {@link ClockHandler}s and {@link ClockStateListener}s in addition to the ones found via
+ * {@link java.util.ServiceLoader}
+ * <p>
+ * Handlers are resolved once, when the clock is read first time, so they have to be registered before that, e.g. at
+ * the very beginning of the {@code main} method. Listeners could be registered at any time
+ * <p>
+ * Service discovery could be disabled via {@value #DISCOVERY_PROPERTY} system property, so nothing is scanned at
+ * startup and only registered handlers are used. Without any handler the system clock is used. Even when discovery is
+ * enabled, it's skipped, if the application is run on the module path and no module other than this one provides
+ * handlers
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * public static void main(String[] args) {
+ *     // run with -Dio.github.gallyamb.time.discovery=false
+ *     ClockHandlerRegistry.register(new PlainClock());
+ *     ...
+ * }
+ * </pre>
+ */
+public final class ClockHandlerRegistry {
+    /**
+     * System property, that disables discovery of handlers and listeners via {@link java.util.ServiceLoader}, if it's
+     * {@code false}
+     */
+    public static final String DISCOVERY_PROPERTY = "io.github.gallyamb.time.discovery";
+
+    private ClockHandlerRegistry() {
+    }
+
+    /**
+     * Registers the {@code handler}. Registered handlers precede discovered ones, so, unless it's a
+     * {@link ThreadLocalClockHandler}, the first registered handler is the one, that's used to read the clock
+     *
+     * @param handler the handler to be registered
+     *
+     * @throws IllegalStateException if the clock is already read, so handlers are already resolved
+     */
+    public static void register(ClockHandler handler) {
+        ClockDiscovery.register(handler);
+    }
+
+    /**
+     * Registers the {@code listener}, that will be notified about subsequent clock state changes
+     *
+     * @param listener the listener to be registered
+     */
+    public static void register(ClockStateListener listener) {
+        ClockDiscovery.register(listener);
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.gallyamb.time;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free cache of {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} formatted moments
+ * <p>
+ * Each entry holds the formatted date-time up to seconds and the formatted offset of a time zone at a certain epoch
+ * second, so only the fraction of the second is formatted per call, without creating any objects. Since an entry is
+ * checked against the moment being formatted, it never becomes stale, no matter how the clock is changed
+ */
+final class IsoDateTimes {
+    /**
+     * The maximum length of a formatted moment, that fits into {@code long} nanoseconds from the epoch, e.g.
+     * {@code 2020-05-12T11:23:55.123456789+05:30:15}
+     */
+    static final int MAX_LENGTH = 38;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    /**
+     * Count of cached time zones. Have to be a power of two
+     */
+    private static final int SIZE = 16;
+    private static final AtomicReferenceArray<Entry> ENTRIES = new AtomicReferenceArray<>(SIZE);
+
+    private IsoDateTimes() {
+    }
+
+    static void format(long epochNanos, ZoneId zone, StringBuilder builder) {
+        Entry entry = entry(zone, Math.floorDiv(epochNanos, NANOS_PER_SECOND));
+        builder.append(entry.dateTime());
+        int nanos = (int) Math.floorMod(epochNanos, NANOS_PER_SECOND);
+        int length = fractionLength(nanos);
+        if (length > 0) {
+            int position = builder.length();
+            builder.setLength(position + length);
+            builder.setCharAt(position, '.');
+            int fraction = stripTrailingZeros(nanos);
+            for (int i = position + length - 1; i > position; i--) {
+                builder.setCharAt(i, (char) ('0' + fraction % 10));
+                fraction /= 10;
+            }
+        }
+        builder.append(entry.offset());
+    }
+
+    static int format(long epochNanos, ZoneId zone, char[] buffer, int offset) {
+        Entry entry = entry(zone, Math.floorDiv(epochNanos, NANOS_PER_SECOND));
+        int nanos = (int) Math.floorMod(epochNanos, NANOS_PER_SECOND);
+        int fractionLength = fractionLength(nanos);
+        int length = entry.dateTime().length() + fractionLength + entry.offset().length();
+        if (offset < 0 || offset > buffer.length - length) {
+            throw new IndexOutOfBoundsException(
+                    "Buffer of length %s cannot fit %s chars at %s".formatted(buffer.length, length, offset)
+            );
+        }
+
+        int position = offset;
+        entry.dateTime().getChars(0, entry.dateTime().length(), buffer, position);
+        position += entry.dateTime().length();
+        if (fractionLength > 0) {
+            buffer[position] = '.';
+            int fraction = stripTrailingZeros(nanos);
+            for (int i = position + fractionLength - 1; i > position; i--) {
+                buffer[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            position += fractionLength;
+        }
+        entry.offset().getChars(0, entry.offset().length(), buffer, position);
+        return length;
+    }
+
+    static void format(long epochNanos, ZoneId zone, ByteBuffer buffer) {
+        Entry entry = entry(zone, Math.floorDiv(epochNanos, NANOS_PER_SECOND));
+        int nanos = (int) Math.floorMod(epochNanos, NANOS_PER_SECOND);
+        int fractionLength = fractionLength(nanos);
+        if (buffer.remaining() < entry.dateTimeBytes().length + fractionLength + entry.offsetBytes().length) {
+            throw new BufferOverflowException();
+        }
+
+        buffer.put(entry.dateTimeBytes());
+        if (fractionLength > 0) {
+            int position = buffer.position();
+            buffer.put(position, (byte) '.');
+            int fraction = stripTrailingZeros(nanos);
+            for (int i = position + fractionLength - 1; i > position; i--) {
+                buffer.put(i, (byte) ('0' + fraction % 10));
+                fraction /= 10;
+            }
+            buffer.position(position + fractionLength);
+        }
+        buffer.put(entry.offsetBytes());
+    }
+
+    /**
+     * @return length of the fraction of the second including the decimal point. Like
+     * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}, trailing zeros are omitted
+     */
+    private static int fractionLength(int nanos) {
+        if (nanos == 0) {
+            return 0;
+        }
+        int digits = 9;
+        while (nanos % 10 == 0) {
+            nanos /= 10;
+            digits--;
+        }
+        return digits + 1;
+    }
+
+    /**
+     * Significant digits are written from the last one, so they are extracted via division by a constant, that's much
+     * cheaper than division by a variable
+     *
+     * @return the fraction of the second without trailing zeros
+     */
+    private static int stripTrailingZeros(int nanos) {
+        while (nanos % 10 == 0) {
+            nanos /= 10;
+        }
+        return nanos;
+    }
+
+    private static Entry entry(ZoneId zone, long epochSecond) {
+        int index = zone.hashCode() & (SIZE - 1);
+        Entry entry = ENTRIES.getAcquire(index);
+        if (entry != null && entry.covers(zone, epochSecond)) {
+            return entry;
+        }
+
+        entry = Entry.of(zone, epochSecond);
+        ENTRIES.setRelease(index, entry);
+        return entry;
+    }
+
+    /**
+     * @param zone          cached time zone
+     * @param epochSecond   the moment, that's formatted
+     * @param dateTime      local date-time of the {@code zone} at the {@code epochSecond} formatted up to seconds
+     * @param offset        formatted offset of the {@code zone} at the {@code epochSecond}
+     * @param dateTimeBytes ASCII bytes of the {@code dateTime}
+     * @param offsetBytes   ASCII bytes of the {@code offset}
+     */
+    private record Entry(
+            ZoneId zone,
+            long epochSecond,
+            String dateTime,
+            String offset,
+            byte[] dateTimeBytes,
+            byte[] offsetBytes
+    ) {
+        private static Entry of(ZoneId zone, long epochSecond) {
+            ZoneOffset offset = ZoneOffsets.offset(zone, epochSecond);
+            // a date-time without nanos is formatted up to seconds
+            String dateTime = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(
+                    LocalDateTime.ofEpochSecond(epochSecond, 0, offset)
+            );
+            return new Entry(
+                    zone,
+                    epochSecond,
+                    dateTime,
+                    offset.getId(),
+                    dateTime.getBytes(StandardCharsets.US_ASCII),
+                    offset.getId().getBytes(StandardCharsets.US_ASCII)
+            );
+        }
+
+        private boolean covers(ZoneId zone, long epochSecond) {
+            return this.epochSecond == epochSecond && this.zone.equals(zone);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.gallyamb.time;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free cache of current local dates
+ * <p>
+ * Each entry holds a shared {@link LocalDate} of a time zone together with the range of epoch seconds until the next
+ * midnight (or the next zone transition, whichever comes first). Since an entry is checked against the instant being
+ * converted, it never becomes stale, no matter how the clock is changed
+ */
+final class LocalDates {
+    private static final long SECONDS_PER_DAY = 86400;
+    /**
+     * Count of cached time zones. Have to be a power of two
+     */
+    private static final int SIZE = 16;
+    private static final AtomicReferenceArray<Entry> ENTRIES = new AtomicReferenceArray<>(SIZE);
+
+    private LocalDates() {
+    }
+
+    /**
+     * @param zone        time zone, which local date should be obtained
+     * @param epochSecond the moment at which local date should be obtained
+     *
+     * @return local date of the {@code zone} at the {@code epochSecond} moment
+     */
+    static LocalDate localDate(ZoneId zone, long epochSecond) {
+        int index = zone.hashCode() & (SIZE - 1);
+        Entry entry = ENTRIES.getAcquire(index);
+        if (entry != null && entry.covers(zone, epochSecond)) {
+            return entry.date();
+        }
+
+        entry = Entry.of(zone, epochSecond);
+        ENTRIES.setRelease(index, entry);
+        return entry.date();
+    }
+
+    /**
+     * @param zone       cached time zone
+     * @param date       the local date of the {@code zone} within {@code [validFrom, validUntil)} epoch seconds
+     * @param validFrom  the first epoch second the {@code date} is valid at
+     * @param validUntil the epoch second of the next midnight or the next zone transition
+     */
+    private record Entry(ZoneId zone, LocalDate date, long validFrom, long validUntil) {
+        private static Entry of(ZoneId zone, long epochSecond) {
+            ZoneOffsets.Entry offsets = ZoneOffsets.entry(zone, epochSecond);
+            int offset = offsets.offset().getTotalSeconds();
+            long epochDay = Math.floorDiv(epochSecond + offset, SECONDS_PER_DAY);
+            long midnight = epochDay * SECONDS_PER_DAY - offset;
+            return new Entry(
+                    zone,
+                    LocalDate.ofEpochDay(epochDay),
+                    Math.max(midnight, offsets.validFrom()),
+                    Math.min(midnight + SECONDS_PER_DAY, offsets.validUntil())
+            );
+        }
+
+        private boolean covers(ZoneId zone, long epochSecond) {
+            return epochSecond >= validFrom && epochSecond < validUntil && this.zone.equals(zone);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package io.github.gallyamb.time;
 
+import java.nio.ByteBuffer;
 import java.time.*;
 
+import io.github.gallyamb.time.impl.ClockReads;
+import io.github.gallyamb.time.impl.ClockReads.Accessor;
 import io.github.gallyamb.time.internal.InternalClockHandler;
 
 /**
@@ -38,15 +41,36 @@ import io.github.gallyamb.time.internal.InternalClockHandler;
  * </table>
  */
 public final class Now {
-    private static Clock clock() {
+    /**
+     * The maximum length of current time formatted via {@code isoDateTime} methods
+     */
+    public static final int ISO_DATE_TIME_MAX_LENGTH = IsoDateTimes.MAX_LENGTH;
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long SECONDS_PER_DAY = 86400;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final Duration MAX_NANOS_DURATION = Duration.ofNanos(Long.MAX_VALUE);
+
+    private static Clock clock(Accessor accessor) {
+        ClockReads.count(accessor);
         return InternalClockHandler.INSTANCE.getClock();
     }
 
+    private static long isoEpochNanos() {
+        ClockReads.count(Accessor.ISO_DATE_TIME);
+        return InternalClockHandler.INSTANCE.epochNanos();
+    }
+
+    private static long epochMillis(Accessor accessor) {
+        ClockReads.count(accessor);
+        return InternalClockHandler.INSTANCE.epochMillis();
+    }
+
     /**
      * @return current time in the {@link OffsetDateTime} representation with default offset
      */
     public static OffsetDateTime offsetDateTime() {
-        return OffsetDateTime.now(clock());
+        Clock clock = clock(Accessor.OFFSET_DATE_TIME);
+        return offsetDateTime(clock.instant(), clock.getZone());
     }
 
     /**
@@ -56,7 +80,7 @@ public final class Now {
      * zone
      */
     public static OffsetDateTime offsetDateTime(ZoneId zone) {
-        return OffsetDateTime.now(clock().withZone(zone));
+        return offsetDateTime(clock(Accessor.OFFSET_DATE_TIME).instant(), zone);
     }
 
     /**
@@ -65,14 +89,14 @@ public final class Now {
      * @return current time in the {@link OffsetDateTime} representation with specified {@code offset} offset
      */
     public static OffsetDateTime offsetDateTime(ZoneOffset offset) {
-        return OffsetDateTime.now(clock().withZone(offset));
+        return offsetDateTime(clock(Accessor.OFFSET_DATE_TIME).instant(), offset);
     }
 
     /**
      * @return current time in the {@link ZonedDateTime} representation with default time zone
      */
     public static ZonedDateTime zonedDateTime() {
-        return ZonedDateTime.now(clock());
+        return ZonedDateTime.now(clock(Accessor.ZONED_DATE_TIME));
     }
 
     /**
@@ -81,7 +105,7 @@ public final class Now {
      * @return current time in the {@link ZonedDateTime} representation with specified {@code zone} time zone
      */
     public static ZonedDateTime zonedDateTime(ZoneId zone) {
-        return ZonedDateTime.now(clock().withZone(zone));
+        return ZonedDateTime.ofInstant(clock(Accessor.ZONED_DATE_TIME).instant(), zone);
     }
 
     /**
@@ -91,14 +115,15 @@ public final class Now {
      * offset
      */
     public static ZonedDateTime zonedDateTime(ZoneOffset offset) {
-        return ZonedDateTime.now(clock().withZone(offset));
+        return ZonedDateTime.ofInstant(clock(Accessor.ZONED_DATE_TIME).instant(), offset);
     }
 
     /**
      * @return current local date/time at default time zone
      */
     public static LocalDateTime localDateTime() {
-        return LocalDateTime.now(clock());
+        Clock clock = clock(Accessor.LOCAL_DATE_TIME);
+        return localDateTime(clock.instant(), clock.getZone());
     }
 
     /**
@@ -107,7 +132,7 @@ public final class Now {
      * @return current local date/time at specified {@code zone} time zone
      */
     public static LocalDateTime localDateTime(ZoneId zone) {
-        return LocalDateTime.now(clock().withZone(zone));
+        return localDateTime(clock(Accessor.LOCAL_DATE_TIME).instant(), zone);
     }
 
     /**
@@ -116,14 +141,15 @@ public final class Now {
      * @return current local date/time at specified {@code offset} offset
      */
     public static LocalDateTime localDateTime(ZoneOffset offset) {
-        return LocalDateTime.now(clock().withZone(offset));
+        return localDateTime(clock(Accessor.LOCAL_DATE_TIME).instant(), offset);
     }
 
     /**
      * @return current local date at default time zone
      */
     public static LocalDate localDate() {
-        return LocalDate.now(clock());
+        Clock clock = clock(Accessor.LOCAL_DATE);
+        return localDate(clock.instant(), clock.getZone());
     }
 
     /**
@@ -132,7 +158,7 @@ public final class Now {
      * @return current local date at specified {@code zone} time zone
      */
     public static LocalDate localDate(ZoneId zone) {
-        return LocalDate.now(clock().withZone(zone));
+        return localDate(clock(Accessor.LOCAL_DATE).instant(), zone);
     }
 
     /**
@@ -141,14 +167,15 @@ public final class Now {
      * @return current local date at specified {@code offset} offset
      */
     public static LocalDate localDate(ZoneOffset offset) {
-        return LocalDate.now(clock().withZone(offset));
+        return localDate(clock(Accessor.LOCAL_DATE).instant(), offset);
     }
 
     /**
      * @return current local time at default time zone
      */
     public static LocalTime localTime() {
-        return LocalTime.now(clock());
+        Clock clock = clock(Accessor.LOCAL_TIME);
+        return localTime(clock.instant(), clock.getZone());
     }
 
     /**
@@ -157,7 +184,7 @@ public final class Now {
      * @return current local time at specified {@code zone} time zone
      */
     public static LocalTime localTime(ZoneId zone) {
-        return LocalTime.now(clock().withZone(zone));
+        return localTime(clock(Accessor.LOCAL_TIME).instant(), zone);
     }
 
     /**
@@ -166,14 +193,138 @@ public final class Now {
      * @return current local time at specified {@code offset} offset
      */
     public static LocalTime localTime(ZoneOffset offset) {
-        return LocalTime.now(clock().withZone(offset));
+        return localTime(clock(Accessor.LOCAL_TIME).instant(), offset);
     }
 
     /**
      * @return current {@link Instant instant}
      */
     public static Instant instant() {
-        return clock().instant();
+        ClockReads.count(Accessor.INSTANT);
+        return InternalClockHandler.INSTANCE.instant();
+    }
+
+    /**
+     * Reads current time once, so it could be obtained in different representations, that are consistent with each
+     * other and derived only when needed. See {@link NowSnapshot}
+     *
+     * @return current time snapshot
+     */
+    public static NowSnapshot snapshot() {
+        Clock clock = clock(Accessor.SNAPSHOT);
+        Instant instant = clock.instant();
+        return new NowSnapshot(instant.getEpochSecond(), instant.getNano(), clock.getZone());
+    }
+
+    /**
+     * Appends current time at default time zone formatted like
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}, e.g. {@code 2020-05-12T11:23:55.123+03:00}
+     * <p>
+     * Unlike formatting of {@link #offsetDateTime()}, this method does not create any objects, if underlying
+     * {@link ClockHandler#epochNanos() clock handler} is able to: the date-time up to seconds is cached per second and
+     * time zone, so only the fraction of the second is formatted
+     *
+     * @param builder the builder to append to
+     *
+     * @return the {@code builder}
+     *
+     * @throws ArithmeticException if current time does not fit into {@code long} nanoseconds (roughly before 1677 or
+     *                             after 2262 year)
+     */
+    public static StringBuilder isoDateTime(StringBuilder builder) {
+        return isoDateTime(builder, InternalClockHandler.INSTANCE.getClock().getZone());
+    }
+
+    /**
+     * Appends current time at specified {@code zone} time zone formatted like
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}. See {@link #isoDateTime(StringBuilder)}
+     *
+     * @param builder the builder to append to
+     * @param zone    time zone at which current time will be formatted
+     *
+     * @return the {@code builder}
+     *
+     * @throws ArithmeticException if current time does not fit into {@code long} nanoseconds (roughly before 1677 or
+     *                             after 2262 year)
+     */
+    public static StringBuilder isoDateTime(StringBuilder builder, ZoneId zone) {
+        IsoDateTimes.format(isoEpochNanos(), zone, builder);
+        return builder;
+    }
+
+    /**
+     * Writes current time at default time zone formatted like
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} into the {@code buffer}. See
+     * {@link #isoDateTime(StringBuilder)}
+     *
+     * @param buffer the buffer to write to, that have to fit {@value #ISO_DATE_TIME_MAX_LENGTH} chars to be safe
+     * @param offset the index in the {@code buffer} to write from
+     *
+     * @return count of written chars
+     *
+     * @throws IndexOutOfBoundsException if the formatted time does not fit into the {@code buffer}
+     * @throws ArithmeticException       if current time does not fit into {@code long} nanoseconds (roughly before
+     *                                   1677 or after 2262 year)
+     */
+    public static int isoDateTime(char[] buffer, int offset) {
+        return isoDateTime(buffer, offset, InternalClockHandler.INSTANCE.getClock().getZone());
+    }
+
+    /**
+     * Writes current time at specified {@code zone} time zone formatted like
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} into the {@code buffer}. See
+     * {@link #isoDateTime(StringBuilder)}
+     *
+     * @param buffer the buffer to write to, that have to fit {@value #ISO_DATE_TIME_MAX_LENGTH} chars to be safe
+     * @param offset the index in the {@code buffer} to write from
+     * @param zone   time zone at which current time will be formatted
+     *
+     * @return count of written chars
+     *
+     * @throws IndexOutOfBoundsException if the formatted time does not fit into the {@code buffer}
+     * @throws ArithmeticException       if current time does not fit into {@code long} nanoseconds (roughly before
+     *                                   1677 or after 2262 year)
+     */
+    public static int isoDateTime(char[] buffer, int offset, ZoneId zone) {
+        return IsoDateTimes.format(isoEpochNanos(), zone, buffer, offset);
+    }
+
+    /**
+     * Writes current time at default time zone formatted like
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} into the {@code buffer} as ASCII bytes starting
+     * from its position, that's advanced. See {@link #isoDateTime(StringBuilder)}
+     *
+     * @param buffer the buffer to write to
+     *
+     * @return the {@code buffer}
+     *
+     * @throws java.nio.BufferOverflowException if the formatted time does not fit into the {@code buffer}. Nothing is
+     *                                          written in this case
+     * @throws ArithmeticException              if current time does not fit into {@code long} nanoseconds (roughly
+     *                                          before 1677 or after 2262 year)
+     */
+    public static ByteBuffer isoDateTime(ByteBuffer buffer) {
+        return isoDateTime(buffer, InternalClockHandler.INSTANCE.getClock().getZone());
+    }
+
+    /**
+     * Writes current time at specified {@code zone} time zone formatted like
+     * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} into the {@code buffer} as ASCII bytes starting
+     * from its position, that's advanced. See {@link #isoDateTime(StringBuilder)}
+     *
+     * @param buffer the buffer to write to
+     * @param zone   time zone at which current time will be formatted
+     *
+     * @return the {@code buffer}
+     *
+     * @throws java.nio.BufferOverflowException if the formatted time does not fit into the {@code buffer}. Nothing is
+     *                                          written in this case
+     * @throws ArithmeticException              if current time does not fit into {@code long} nanoseconds (roughly
+     *                                          before 1677 or after 2262 year)
+     */
+    public static ByteBuffer isoDateTime(ByteBuffer buffer, ZoneId zone) {
+        IsoDateTimes.format(isoEpochNanos(), zone, buffer);
+        return buffer;
     }
 
     /**
@@ -182,7 +333,7 @@ public final class Now {
      * @see System#currentTimeMillis()
      */
     public static long currentTimeMillis() {
-        return clock().millis();
+        return epochMillis();
     }
 
     /**
@@ -193,4 +344,102 @@ public final class Now {
     public static long unixTimestamp() {
         return currentTimeMillis() / 1000;
     }
+
+    /**
+     * Unlike {@link #instant()} this method does not create any objects, if underlying
+     * {@link ClockHandler#epochMillis() clock handler} is able to
+     *
+     * @return current time in milliseconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    public static long epochMillis() {
+        return epochMillis(Accessor.EPOCH_MILLIS);
+    }
+
+    /**
+     * Unlike {@link #unixTimestamp()} this method rounds the time down for moments before the epoch, so it's equal to
+     * {@link Instant#getEpochSecond()}
+     *
+     * @return current time in seconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    public static long epochSecond() {
+        return Math.floorDiv(epochMillis(), MILLIS_PER_SECOND);
+    }
+
+    /**
+     * Unlike {@link #instant()} this method does not create any objects, if underlying
+     * {@link ClockHandler#epochNanos() clock handler} is able to
+     *
+     * @return current time in nanoseconds from the epoch of 1970-01-01T00:00:00Z
+     *
+     * @throws ArithmeticException if current time does not fit into {@code long} nanoseconds (roughly before 1677 or
+     *                             after 2262 year)
+     */
+    public static long epochNanos() {
+        ClockReads.count(Accessor.EPOCH_NANOS);
+        return InternalClockHandler.INSTANCE.epochNanos();
+    }
+
+    /**
+     * @return current local date at default time zone as a count of days from 1970-01-01
+     *
+     * @see LocalDate#toEpochDay()
+     */
+    public static long epochDay() {
+        return epochDay(InternalClockHandler.INSTANCE.getClock().getZone());
+    }
+
+    /**
+     * @param zone time zone at which the date will be obtained
+     *
+     * @return current local date at specified {@code zone} time zone as a count of days from 1970-01-01
+     *
+     * @see LocalDate#toEpochDay()
+     */
+    public static long epochDay(ZoneId zone) {
+        long epochSecond = Math.floorDiv(epochMillis(Accessor.EPOCH_DAY), MILLIS_PER_SECOND);
+        return LocalDates.localDate(zone, epochSecond).toEpochDay();
+    }
+
+    /**
+     * Pauses current thread for the {@code duration}. Unlike {@link Thread#sleep(long)}, the duration is measured by
+     * the current clock, if underlying {@link ClockHandler#sleepNanos(long) clock handler} is able to. So, when the
+     * clock is changed in tests, the thread wakes up as soon as the changed clock passes the deadline instead of
+     * waiting in real time
+     *
+     * @param duration the non-negative duration of the pause
+     *
+     * @throws InterruptedException if current thread is interrupted while sleeping
+     */
+    public static void sleep(Duration duration) throws InterruptedException {
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("Negative durations are not allowed: %s".formatted(duration));
+        }
+
+        // durations over ~292 years do not fit into long nanoseconds, so they are treated as infinite
+        long nanos = duration.compareTo(MAX_NANOS_DURATION) >= 0 ? Long.MAX_VALUE : duration.toNanos();
+        InternalClockHandler.INSTANCE.sleepNanos(nanos);
+    }
+
+    private static long localSecond(long epochSecond, ZoneId zone) {
+        return epochSecond + ZoneOffsets.offset(zone, epochSecond).getTotalSeconds();
+    }
+
+    private static OffsetDateTime offsetDateTime(Instant instant, ZoneId zone) {
+        ZoneOffset offset = ZoneOffsets.offset(zone, instant.getEpochSecond());
+        return OffsetDateTime.of(localDateTime(instant, offset), offset);
+    }
+
+    private static LocalDateTime localDateTime(Instant instant, ZoneId zone) {
+        ZoneOffset offset = ZoneOffsets.offset(zone, instant.getEpochSecond());
+        return LocalDateTime.ofEpochSecond(instant.getEpochSecond(), instant.getNano(), offset);
+    }
+
+    private static LocalDate localDate(Instant instant, ZoneId zone) {
+        return LocalDates.localDate(zone, instant.getEpochSecond());
+    }
+
+    private static LocalTime localTime(Instant instant, ZoneId zone) {
+        long secondOfDay = Math.floorMod(localSecond(instant.getEpochSecond(), zone), SECONDS_PER_DAY);
+        return LocalTime.ofNanoOfDay(secondOfDay * NANOS_PER_SECOND + instant.getNano());
+    }
 }
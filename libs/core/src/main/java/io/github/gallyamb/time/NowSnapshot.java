@@ -0,0 +1,260 @@
+package io.github.gallyamb.time;
+
+import java.time.*;
+
+/**
+ * Current time read once via {@link Now#snapshot()}, that provides it in different representations
+ * <p>
+ * Calling {@link Now} methods one after another reads the clock every time, so the results may differ slightly, and
+ * each of them is created from scratch. Unlike that, all representations of a snapshot are the same moment, each of
+ * them is derived lazily on first access only and then reused, separately for each time zone
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * NowSnapshot now = Now.snapshot();
+ * ZoneId zone = ZoneId.of("Europe/Berlin");
+ *
+ * // always the same moment, no matter how much time passed between the calls
+ * Assertions.assertEquals(now.instant(), now.offsetDateTime(zone).toInstant());
+ * Assertions.assertEquals(now.localDate(zone), now.offsetDateTime(zone).toLocalDate());
+ * </pre>
+ * <p>
+ * Snapshot could be shared between threads: at worst, some representation is derived more than once
+ */
+public final class NowSnapshot {
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int NANOS_PER_MILLI = 1_000_000;
+
+    private final long epochSecond;
+    private final int nano;
+    private final ZoneId zone;
+    private Instant instant;
+    /**
+     * Head of the list of already requested time zones, which is rarely longer than a couple of elements
+     */
+    private Zoned zoned;
+
+    /**
+     * @param epochSecond the moment of the snapshot in seconds from the epoch of 1970-01-01T00:00:00Z
+     * @param nano        nanoseconds of the moment within the second
+     * @param zone        default time zone at the moment of the snapshot
+     */
+    NowSnapshot(long epochSecond, int nano, ZoneId zone) {
+        this.epochSecond = epochSecond;
+        this.nano = nano;
+        this.zone = zone;
+    }
+
+    /**
+     * @return default time zone at the moment of the snapshot
+     */
+    public ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * @return the moment of the snapshot
+     */
+    public Instant instant() {
+        Instant result = instant;
+        if (result == null) {
+            result = Instant.ofEpochSecond(epochSecond, nano);
+            instant = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the moment of the snapshot in seconds from the epoch of 1970-01-01T00:00:00Z
+     *
+     * @see Instant#getEpochSecond()
+     */
+    public long epochSecond() {
+        return epochSecond;
+    }
+
+    /**
+     * @return the moment of the snapshot in milliseconds from the epoch of 1970-01-01T00:00:00Z
+     *
+     * @see Instant#toEpochMilli()
+     */
+    public long epochMillis() {
+        return Math.addExact(Math.multiplyExact(epochSecond, MILLIS_PER_SECOND), nano / NANOS_PER_MILLI);
+    }
+
+    /**
+     * @return the moment of the snapshot in nanoseconds from the epoch of 1970-01-01T00:00:00Z
+     *
+     * @throws ArithmeticException if the moment does not fit into {@code long} nanoseconds (roughly before 1677 or
+     *                             after 2262 year)
+     */
+    public long epochNanos() {
+        return Math.addExact(Math.multiplyExact(epochSecond, NANOS_PER_SECOND), nano);
+    }
+
+    /**
+     * @return local date at default time zone as a count of days from 1970-01-01
+     *
+     * @see LocalDate#toEpochDay()
+     */
+    public long epochDay() {
+        return epochDay(zone);
+    }
+
+    /**
+     * @param zone time zone at which the date will be obtained
+     *
+     * @return local date at specified {@code zone} time zone as a count of days from 1970-01-01
+     *
+     * @see LocalDate#toEpochDay()
+     */
+    public long epochDay(ZoneId zone) {
+        return localDate(zone).toEpochDay();
+    }
+
+    /**
+     * @return the moment of the snapshot at default time zone
+     */
+    public OffsetDateTime offsetDateTime() {
+        return offsetDateTime(zone);
+    }
+
+    /**
+     * @param zone time zone at which the moment will be obtained
+     *
+     * @return the moment of the snapshot at specified {@code zone} time zone
+     */
+    public OffsetDateTime offsetDateTime(ZoneId zone) {
+        return zoned(zone).offsetDateTime();
+    }
+
+    /**
+     * @return the moment of the snapshot at default time zone
+     */
+    public ZonedDateTime zonedDateTime() {
+        return zonedDateTime(zone);
+    }
+
+    /**
+     * @param zone time zone at which the moment will be obtained
+     *
+     * @return the moment of the snapshot at specified {@code zone} time zone
+     */
+    public ZonedDateTime zonedDateTime(ZoneId zone) {
+        return zoned(zone).zonedDateTime();
+    }
+
+    /**
+     * @return local date-time at default time zone at the moment of the snapshot
+     */
+    public LocalDateTime localDateTime() {
+        return localDateTime(zone);
+    }
+
+    /**
+     * @param zone time zone at which the date-time will be obtained
+     *
+     * @return local date-time at specified {@code zone} time zone at the moment of the snapshot
+     */
+    public LocalDateTime localDateTime(ZoneId zone) {
+        return zoned(zone).localDateTime();
+    }
+
+    /**
+     * @return local date at default time zone at the moment of the snapshot
+     */
+    public LocalDate localDate() {
+        return localDate(zone);
+    }
+
+    /**
+     * Unlike other representations, the date is shared with {@link Now#localDate(ZoneId)} instead of being derived
+     *
+     * @param zone time zone at which the date will be obtained
+     *
+     * @return local date at specified {@code zone} time zone at the moment of the snapshot
+     */
+    public LocalDate localDate(ZoneId zone) {
+        return LocalDates.localDate(zone, epochSecond);
+    }
+
+    /**
+     * @return local time at default time zone at the moment of the snapshot
+     */
+    public LocalTime localTime() {
+        return localTime(zone);
+    }
+
+    /**
+     * @param zone time zone at which the time will be obtained
+     *
+     * @return local time at specified {@code zone} time zone at the moment of the snapshot
+     */
+    public LocalTime localTime(ZoneId zone) {
+        return localDateTime(zone).toLocalTime();
+    }
+
+    private Zoned zoned(ZoneId zone) {
+        Zoned head = zoned;
+        for (Zoned current = head; current != null; current = current.next) {
+            if (current.zone.equals(zone)) {
+                return current;
+            }
+        }
+
+        Zoned result = new Zoned(zone, ZoneOffsets.offset(zone, epochSecond), head);
+        zoned = result;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return zonedDateTime().toString();
+    }
+
+    /**
+     * Representations of the snapshot at a certain time zone
+     */
+    private final class Zoned {
+        private final ZoneId zone;
+        private final ZoneOffset offset;
+        private final Zoned next;
+        private LocalDateTime localDateTime;
+        private OffsetDateTime offsetDateTime;
+        private ZonedDateTime zonedDateTime;
+
+        private Zoned(ZoneId zone, ZoneOffset offset, Zoned next) {
+            this.zone = zone;
+            this.offset = offset;
+            this.next = next;
+        }
+
+        private LocalDateTime localDateTime() {
+            LocalDateTime result = localDateTime;
+            if (result == null) {
+                result = LocalDateTime.ofEpochSecond(epochSecond, nano, offset);
+                localDateTime = result;
+            }
+            return result;
+        }
+
+        private OffsetDateTime offsetDateTime() {
+            OffsetDateTime result = offsetDateTime;
+            if (result == null) {
+                result = OffsetDateTime.of(localDateTime(), offset);
+                offsetDateTime = result;
+            }
+            return result;
+        }
+
+        private ZonedDateTime zonedDateTime() {
+            ZonedDateTime result = zonedDateTime;
+            if (result == null) {
+                result = ZonedDateTime.ofInstant(localDateTime(), offset, zone);
+                zonedDateTime = result;
+            }
+            return result;
+        }
+    }
+}
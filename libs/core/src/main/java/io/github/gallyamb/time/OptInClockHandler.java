@@ -0,0 +1,15 @@
+package io.github.gallyamb.time;
+
+/**
+ * A marker interface that's used to indicate, that certain {@link ClockHandler} is not used, even if it's found via
+ * {@link java.util.ServiceLoader}, unless its class name is listed in the {@value #ENABLED_HANDLERS_PROPERTY} system
+ * property
+ * <p>
+ * I.e. it could be shipped within production libraries without changing the default behaviour
+ */
+public interface OptInClockHandler extends ClockHandler {
+    /**
+     * The system property with comma separated class names of enabled {@link OptInClockHandler}s
+     */
+    String ENABLED_HANDLERS_PROPERTY = "io.github.gallyamb.time.handlers";
+}
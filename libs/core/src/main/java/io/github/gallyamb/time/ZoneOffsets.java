@@ -0,0 +1,95 @@
+package io.github.gallyamb.time;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free cache of time zones' offsets
+ * <p>
+ * Each entry holds the offset of a time zone together with the range of epoch seconds between surrounding zone
+ * transitions. Since an entry is checked against the instant being converted, it never becomes stale, no matter how
+ * the clock is changed
+ */
+final class ZoneOffsets {
+    /**
+     * Count of cached time zones. Have to be a power of two
+     */
+    private static final int SIZE = 16;
+    private static final AtomicReferenceArray<Entry> ENTRIES = new AtomicReferenceArray<>(SIZE);
+
+    private ZoneOffsets() {
+    }
+
+    /**
+     * @param zone        time zone, which offset should be obtained
+     * @param epochSecond the moment at which offset should be obtained
+     *
+     * @return offset of the {@code zone} at the {@code epochSecond} moment
+     */
+    static ZoneOffset offset(ZoneId zone, long epochSecond) {
+        if (zone instanceof ZoneOffset offset) {
+            return offset;
+        }
+        return entry(zone, epochSecond).offset();
+    }
+
+    /**
+     * @param zone        time zone, which offset should be obtained
+     * @param epochSecond the moment at which offset should be obtained
+     *
+     * @return an entry, that {@link Entry#covers(ZoneId, long) covers} the {@code epochSecond} moment at the
+     * {@code zone}
+     */
+    static Entry entry(ZoneId zone, long epochSecond) {
+        int index = zone.hashCode() & (SIZE - 1);
+        Entry entry = ENTRIES.getAcquire(index);
+        if (entry != null && entry.covers(zone, epochSecond)) {
+            return entry;
+        }
+
+        entry = Entry.of(zone, epochSecond);
+        ENTRIES.setRelease(index, entry);
+        return entry;
+    }
+
+    /**
+     * @param zone       cached time zone
+     * @param offset     the offset of the {@code zone} within {@code [validFrom, validUntil)} epoch seconds
+     * @param validFrom  the first epoch second the {@code offset} is valid at
+     * @param validUntil the epoch second of the next zone transition
+     */
+    record Entry(ZoneId zone, ZoneOffset offset, long validFrom, long validUntil) {
+        private static Entry of(ZoneId zone, long epochSecond) {
+            ZoneRules rules = zone.getRules();
+            Instant instant = Instant.ofEpochSecond(epochSecond);
+            ZoneOffset offset = rules.getOffset(instant);
+            if (rules.isFixedOffset()) {
+                return new Entry(zone, offset, Long.MIN_VALUE, Long.MAX_VALUE);
+            }
+
+            // the latest transition at or before the instant, that's the one, which defines current offset
+            ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+            ZoneOffsetTransition next = rules.nextTransition(instant);
+            return new Entry(
+                    zone,
+                    offset,
+                    previous == null ? Long.MIN_VALUE : previous.toEpochSecond(),
+                    next == null ? Long.MAX_VALUE : next.toEpochSecond()
+            );
+        }
+
+        /**
+         * @param zone        time zone to be checked
+         * @param epochSecond the moment to be checked
+         *
+         * @return whether this entry holds the offset of the {@code zone} at the {@code epochSecond} moment
+         */
+        boolean covers(ZoneId zone, long epochSecond) {
+            return epochSecond >= validFrom && epochSecond < validUntil && this.zone.equals(zone);
+        }
+    }
+}
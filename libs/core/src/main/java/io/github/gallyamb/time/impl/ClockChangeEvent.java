@@ -0,0 +1,28 @@
+package io.github.gallyamb.time.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event, that is committed when the clock is {@link CompositeClockHandler#setClock(java.time.Clock) changed} or
+ * {@link CompositeClockHandler#reset() reset}. It's enabled by default, but costs nothing until a recording is started
+ */
+@Name(ClockChangeEvent.NAME)
+@Label("Clock Change")
+@Category({"Time", "Clock"})
+@Description("The clock was changed or reset")
+@StackTrace
+final class ClockChangeEvent extends jdk.jfr.Event {
+    static final String NAME = "io.github.gallyamb.time.ClockChange";
+
+    @Label("Clock")
+    @Description("The clock set, or null if the clock was reset")
+    String clock;
+
+    @Label("Handler")
+    @Description("The clock handler, that reads the clock")
+    String handler;
+}
@@ -0,0 +1,28 @@
+package io.github.gallyamb.time.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event, that measures notification of {@link io.github.gallyamb.time.ClockStateListener listeners} and sleeping
+ * threads about a clock change
+ */
+@Name(ClockNotificationEvent.NAME)
+@Label("Clock Notification")
+@Category({"Time", "Clock"})
+@Description("Listeners and sleeping threads were notified about a clock change")
+final class ClockNotificationEvent extends jdk.jfr.Event {
+    static final String NAME = "io.github.gallyamb.time.ClockNotification";
+
+    @Label("Reset")
+    boolean reset;
+
+    @Label("Listeners")
+    int listeners;
+
+    @Label("Sleepers")
+    @Description("Threads sleeping or parked by the clock, that were woken up")
+    int sleepers;
+}
@@ -0,0 +1,23 @@
+package io.github.gallyamb.time.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event, that is committed for a sample of clock reads, so their stack traces point to hot callers. See
+ * {@link ClockReads}
+ */
+@Name(ClockReadEvent.NAME)
+@Label("Clock Read")
+@Category({"Time", "Clock"})
+@Description("A sampled read of the current time via io.github.gallyamb.time.Now")
+@StackTrace
+final class ClockReadEvent extends jdk.jfr.Event {
+    static final String NAME = "io.github.gallyamb.time.ClockRead";
+
+    @Label("Accessor")
+    String accessor;
+}
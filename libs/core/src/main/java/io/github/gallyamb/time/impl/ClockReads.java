@@ -0,0 +1,130 @@
+package io.github.gallyamb.time.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.internal.InternalClockHandler;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Counters of clock reads via {@link io.github.gallyamb.time.Now}, that are reported to JFR
+ * <p>
+ * Counting is disabled unless {@link #SAMPLING_PROPERTY} system property is set and JFR is available, and then
+ * {@link #count(Accessor)} is compiled out by the JIT, as it checks a constant. When enabled:
+ * <ul>
+ *     <li>every period a {@code io.github.gallyamb.time.ClockReads} event reports the number of reads per accessor
+ *     along with the clock handler, that served them</li>
+ *     <li>one of every {@code N} reads, where {@code N} is the value of the property, is committed as a
+ *     {@code io.github.gallyamb.time.ClockRead} event with a stack trace, so hot callers could be found. Zero
+ *     disables sampling</li>
+ * </ul>
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * java -Dio.github.gallyamb.time.jfr.sampling=1024 -XX:StartFlightRecording=filename=time.jfr ...
+ * jfr print --events io.github.gallyamb.time.ClockReads time.jfr
+ * </pre>
+ */
+public final class ClockReads {
+    /**
+     * System property, that enables counting of clock reads. Its value is the sampling rate of reads committed with
+     * stack traces
+     */
+    public static final String SAMPLING_PROPERTY = "io.github.gallyamb.time.jfr.sampling";
+    private static final boolean ENABLED;
+    private static final int SAMPLING;
+    private static final Accessor[] ACCESSORS = Accessor.values();
+    /**
+     * Counters per accessor, or {@code null} if counting is disabled
+     */
+    private static final LongAdder[] COUNTERS;
+
+    static {
+        String value = System.getProperty(SAMPLING_PROPERTY);
+        // reads are reported to JFR only, so there is no reason to count them without it
+        ENABLED = value != null && FlightRecorderSupport.AVAILABLE;
+        try {
+            SAMPLING = ENABLED ? Integer.parseInt(value.strip()) : 0;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid sampling of clock reads: %s".formatted(value), ex);
+        }
+        if (SAMPLING < 0) {
+            throw new IllegalArgumentException("Invalid sampling of clock reads: %s".formatted(value));
+        }
+
+        if (ENABLED) {
+            COUNTERS = new LongAdder[ACCESSORS.length];
+            for (int i = 0; i < COUNTERS.length; i++) {
+                COUNTERS[i] = new LongAdder();
+            }
+            FlightRecorder.addPeriodicEvent(ClockReadsEvent.class, ClockReads::emit);
+        } else {
+            COUNTERS = null;
+        }
+    }
+
+    private ClockReads() {
+    }
+
+    /**
+     * Counts a clock read
+     *
+     * @param accessor the kind of the read
+     */
+    public static void count(Accessor accessor) {
+        if (!ENABLED) {
+            return;
+        }
+
+        COUNTERS[accessor.ordinal()].increment();
+        if (SAMPLING > 0 && ThreadLocalRandom.current().nextInt(SAMPLING) == 0) {
+            ClockReadEvent event = new ClockReadEvent();
+            event.accessor = accessor.name();
+            event.commit();
+        }
+    }
+
+    private static void emit() {
+        String handler = describe(InternalClockHandler.INSTANCE);
+        for (Accessor accessor : ACCESSORS) {
+            long count = COUNTERS[accessor.ordinal()].sumThenReset();
+            if (count == 0) {
+                continue;
+            }
+            ClockReadsEvent event = new ClockReadsEvent();
+            event.accessor = accessor.name();
+            event.handler = handler;
+            event.count = count;
+            event.commit();
+        }
+    }
+
+    static String describe(ClockHandler handler) {
+        if (handler instanceof CompositeClockHandler composite) {
+            return composite.delegates()
+                    .stream()
+                    .map(delegate -> delegate.getClass().getName())
+                    .collect(Collectors.joining(", "));
+        }
+        return handler.getClass().getName();
+    }
+
+    /**
+     * Kinds of clock reads, that correspond to the methods of {@link io.github.gallyamb.time.Now}
+     */
+    public enum Accessor {
+        OFFSET_DATE_TIME,
+        ZONED_DATE_TIME,
+        LOCAL_DATE_TIME,
+        LOCAL_DATE,
+        LOCAL_TIME,
+        INSTANT,
+        EPOCH_MILLIS,
+        EPOCH_NANOS,
+        EPOCH_DAY,
+        ISO_DATE_TIME,
+        SNAPSHOT
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.gallyamb.time.impl;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic JFR event, that reports the number of clock reads per accessor since the previous period. See
+ * {@link ClockReads}
+ */
+@Name(ClockReadsEvent.NAME)
+@Label("Clock Reads")
+@Category({"Time", "Clock"})
+@Description("Number of reads of the current time via io.github.gallyamb.time.Now since the previous period")
+@Period("1 s")
+@StackTrace(false)
+final class ClockReadsEvent extends jdk.jfr.Event {
+    static final String NAME = "io.github.gallyamb.time.ClockReads";
+
+    @Label("Accessor")
+    String accessor;
+
+    @Label("Handler")
+    @Description("The clock handler, that served the reads")
+    String handler;
+
+    @Label("Count")
+    long count;
+}
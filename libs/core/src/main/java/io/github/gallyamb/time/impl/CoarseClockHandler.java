@@ -0,0 +1,192 @@
+package io.github.gallyamb.time.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.OptInClockHandler;
+
+/**
+ * An implementation of {@link ClockHandler}, that trades clock precision for the reading speed. Current time is
+ * published by a daemon thread every {@value #RESOLUTION_PROPERTY} milliseconds ({@value #DEFAULT_RESOLUTION_MILLIS}
+ * by default), so reading it is just a load of a field
+ * <p>
+ * The publishing thread is started, when the first handler with certain resolution is created, and shared by all
+ * handlers with the same resolution. It's stopped, when all of them are {@link #close() closed}. Closed handler reads
+ * the system clock directly
+ * <p>
+ * To enable it, add {@code io.github.gallyamb.time.impl.CoarseClockHandler} to the
+ * {@value OptInClockHandler#ENABLED_HANDLERS_PROPERTY} system property. Clock could still be changed in tests, so it
+ * can be used together with other {@link ClockHandler} implementations
+ */
+public class CoarseClockHandler implements OptInClockHandler, AutoCloseable {
+    /**
+     * The system property with resolution of the clock in milliseconds
+     */
+    public static final String RESOLUTION_PROPERTY = "io.github.gallyamb.time.coarse.resolution";
+    /**
+     * Resolution of the clock, that's used unless {@value #RESOLUTION_PROPERTY} system property is set
+     */
+    public static final long DEFAULT_RESOLUTION_MILLIS = 10;
+    /**
+     * Running tickers by their resolution in nanoseconds
+     */
+    private static final Map<Long, Ticker> TICKERS = new HashMap<>();
+
+    private final Ticker ticker;
+    private final Clock coarseClock;
+    private volatile Clock clock;
+    /**
+     * Whether the ticker is released, guarded by {@code TICKERS}
+     */
+    private boolean closed;
+
+    /**
+     * Constructs new {@link CoarseClockHandler} with resolution specified via {@value #RESOLUTION_PROPERTY} system
+     * property
+     */
+    public CoarseClockHandler() {
+        this(Duration.ofMillis(Long.getLong(RESOLUTION_PROPERTY, DEFAULT_RESOLUTION_MILLIS)));
+    }
+
+    /**
+     * Constructs new {@link CoarseClockHandler}
+     *
+     * @param resolution the positive duration between clock updates
+     */
+    public CoarseClockHandler(Duration resolution) {
+        if (resolution.isNegative() || resolution.isZero()) {
+            throw new IllegalArgumentException("Resolution have to be positive: %s".formatted(resolution));
+        }
+
+        this.ticker = acquire(resolution.toNanos());
+        this.coarseClock = new CoarseClock(ticker, ZoneId.systemDefault());
+    }
+
+    @Override
+    public Clock getClock() {
+        Clock clock = this.clock;
+        return clock == null ? coarseClock : clock;
+    }
+
+    @Override
+    public boolean isClockChanged() {
+        return clock != null;
+    }
+
+    @Override
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void reset() {
+        this.clock = null;
+    }
+
+    /**
+     * Releases the publishing thread, which is stopped, if no other handler uses it. Does nothing, if the handler is
+     * already closed
+     */
+    @Override
+    public void close() {
+        synchronized (TICKERS) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (--ticker.users == 0) {
+                TICKERS.remove(ticker.resolutionNanos);
+                ticker.thread.interrupt();
+            }
+        }
+    }
+
+    private static Ticker acquire(long resolutionNanos) {
+        synchronized (TICKERS) {
+            Ticker ticker = TICKERS.get(resolutionNanos);
+            if (ticker == null) {
+                ticker = new Ticker(resolutionNanos);
+                TICKERS.put(resolutionNanos, ticker);
+                ticker.thread.start();
+            }
+            ticker.users++;
+            return ticker;
+        }
+    }
+
+    private static final class Ticker implements Runnable {
+        private final long resolutionNanos;
+        private final Thread thread;
+        /**
+         * Count of handlers using this ticker, guarded by {@code TICKERS}
+         */
+        private int users;
+        /**
+         * The published time, or {@code null} when the ticker is stopped
+         */
+        private volatile Instant now = Clock.systemUTC().instant();
+
+        private Ticker(long resolutionNanos) {
+            this.resolutionNanos = resolutionNanos;
+            this.thread = new Thread(this, "coarse-clock-ticker");
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (!Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(this, resolutionNanos);
+                now = Clock.systemUTC().instant();
+            }
+            now = null;
+        }
+    }
+
+    private static final class CoarseClock extends Clock {
+        private final Ticker ticker;
+        private final ZoneId zone;
+
+        private CoarseClock(Ticker ticker, ZoneId zone) {
+            this.ticker = ticker;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(this.zone) ? this : new CoarseClock(ticker, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            Instant now = ticker.now;
+            return now != null ? now : Clock.systemUTC().instant();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CoarseClock other && ticker == other.ticker && zone.equals(other.zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(ticker, zone);
+        }
+
+        @Override
+        public String toString() {
+            return "CoarseClock[" + zone + "]";
+        }
+    }
+}
@@ -1,19 +1,43 @@
 package io.github.gallyamb.time.impl;
 
 import java.time.Clock;
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.List;
-import java.util.ServiceLoader;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
 
 import io.github.gallyamb.time.ClockHandler;
 import io.github.gallyamb.time.ClockStateListener;
 import io.github.gallyamb.time.ThreadLocalClockHandler;
+import io.github.gallyamb.time.internal.ClockDiscovery;
 
 /**
  * An implementation of {@link ClockHandler}, that allows to use multiple {@link ClockHandler}'s at once
+ * <p>
+ * While the clock seen by current thread is changed (and is not a system one), sleeping and parking are measured by
+ * the changed clock. It's decided by the primary delegate per call, so threads of other clock scopes are not affected.
+ * Depending on {@link #SLEEP_MODE_PROPERTY} it's done in one of the following ways:
+ * <ul>
+ *     <li>{@code await} (default) - the thread waits until the clock passes the deadline, e.g. after a tick in
+ *     another thread, but not longer than the pause in real time. So a fixed clock, that nobody changes, does not
+ *     hang the thread</li>
+ *     <li>{@code advance} - the thread advances the clock by the duration of the pause and returns immediately.
+ *     Concurrent advances are applied one after another, so none of them is lost</li>
+ *     <li>{@code real} - the thread sleeps in real time</li>
+ * </ul>
+ * In the first two modes a {@link SchedulingClock} takes over the pauses of the threads it schedules
+ * <p>
+ * Clock changes and notifications about them are reported to JFR as {@code io.github.gallyamb.time.ClockChange} and
+ * {@code io.github.gallyamb.time.ClockNotification} events
  */
 public class CompositeClockHandler implements ClockHandler {
+    /**
+     * System property, that defines how threads sleep while the clock is changed: {@code await}, {@code advance} or
+     * {@code real}
+     */
+    public static final String SLEEP_MODE_PROPERTY = "io.github.gallyamb.time.sleep";
+    private static final Class<?> SYSTEM_CLOCK_TYPE = Clock.systemUTC().getClass();
     private static final Comparator<ClockHandler> THREAD_LOCAL_HANDLERS_LAST = (a, b) -> {
         boolean aIsLimited = a instanceof ThreadLocalClockHandler;
         boolean bIsLimited = b instanceof ThreadLocalClockHandler;
@@ -22,11 +46,19 @@ public class CompositeClockHandler implements ClockHandler {
         }
         return aIsLimited ? 1 : -1;
     };
-    private final List<ClockStateListener> clockStateListeners = ServiceLoader.load(ClockStateListener.class)
-            .stream()
-            .map(ServiceLoader.Provider::get)
-            .toList();
     private final Collection<ClockHandler> delegates;
+    /**
+     * The delegate, that is used to read the clock. It's resolved once, so reads do not iterate over
+     * {@link #delegates}
+     */
+    private final ClockHandler primary;
+    private final SleepMode sleepMode = SleepMode.fromProperty();
+    private final Set<Thread> sleepers = ConcurrentHashMap.newKeySet();
+    /**
+     * Guards changes and resets of the clock, so advancing it by a sleeping thread is an atomic read-modify-write, that
+     * never undoes a concurrent reset
+     */
+    private final Object clockLock = new Object();
 
     /**
      * Constructs new {@link CompositeClockHandler}
@@ -37,22 +69,216 @@ public class CompositeClockHandler implements ClockHandler {
         this.delegates = delegates.stream()
                 .sorted(THREAD_LOCAL_HANDLERS_LAST)
                 .toList();
+        this.primary = this.delegates.iterator().next();
     }
 
     @Override
     public Clock getClock() {
-        return delegates.iterator().next().getClock();
+        return primary.getClock();
+    }
+
+    @Override
+    public Instant instant() {
+        return primary.instant();
+    }
+
+    @Override
+    public long epochMillis() {
+        return primary.epochMillis();
+    }
+
+    @Override
+    public long epochNanos() {
+        return primary.epochNanos();
+    }
+
+    @Override
+    public void sleepNanos(long nanos) throws InterruptedException {
+        if (!isVirtual()) {
+            primary.sleepNanos(nanos);
+            return;
+        }
+
+        if (Thread.interrupted() || awaitVirtualTime(this, nanos, false)) {
+            Thread.interrupted();
+            throw new InterruptedException();
+        }
+    }
+
+    @Override
+    public void parkNanos(Object blocker, long nanos) {
+        if (!isVirtual()) {
+            primary.parkNanos(blocker, nanos);
+            return;
+        }
+
+        awaitVirtualTime(blocker, nanos, true);
+    }
+
+    @Override
+    public boolean isClockChanged() {
+        return primary.isClockChanged();
     }
 
     @Override
     public void setClock(Clock clock) {
-        this.delegates.forEach(handler -> handler.setClock(clock));
-        clockStateListeners.forEach(ClockStateListener::notifyClockChanged);
+        synchronized (clockLock) {
+            applyClock(clock);
+        }
+        notifyClockState(false);
     }
 
     @Override
     public void reset() {
-        this.delegates.forEach(ClockHandler::reset);
-        clockStateListeners.forEach(ClockStateListener::notifyClockReset);
+        synchronized (clockLock) {
+            ClockChangeEvent event = FlightRecorderSupport.AVAILABLE ? new ClockChangeEvent() : null;
+            if (event != null) {
+                event.begin();
+            }
+            this.delegates.forEach(ClockHandler::reset);
+            if (event != null && event.shouldCommit()) {
+                event.handler = primary.getClass().getName();
+                event.commit();
+            }
+        }
+        notifyClockState(true);
+    }
+
+    /**
+     * @return delegates in the order they are called, the first one is the primary
+     */
+    Collection<ClockHandler> delegates() {
+        return delegates;
+    }
+
+    private void applyClock(Clock clock) {
+        ClockChangeEvent event = FlightRecorderSupport.AVAILABLE ? new ClockChangeEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        this.delegates.forEach(handler -> handler.setClock(clock));
+        if (event != null && event.shouldCommit()) {
+            event.clock = clock.toString();
+            event.handler = primary.getClass().getName();
+            event.commit();
+        }
+    }
+
+    /**
+     * Shifts the clock of current thread by the {@code nanos}. Listeners and sleepers are notified outside the lock,
+     * as they may sleep (and advance the clock) themselves
+     */
+    private void advance(long nanos) {
+        synchronized (clockLock) {
+            if (!primary.isClockChanged()) {
+                // the clock is reset concurrently, so there is nothing to advance
+                return;
+            }
+            applyClock(VirtualClock.offset(getClock(), Duration.ofNanos(nanos)));
+        }
+        notifyClockState(false);
+    }
+
+    private void notifyClockState(boolean reset) {
+        ClockNotificationEvent event = FlightRecorderSupport.AVAILABLE ? new ClockNotificationEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        // listeners are loaded on the first notification rather than at startup
+        List<ClockStateListener> clockStateListeners = ClockDiscovery.listeners();
+        if (reset) {
+            clockStateListeners.forEach(ClockStateListener::notifyClockReset);
+        } else {
+            clockStateListeners.forEach(ClockStateListener::notifyClockChanged);
+        }
+        int sleepers = 0;
+        for (Thread sleeper : this.sleepers) {
+            LockSupport.unpark(sleeper);
+            sleepers++;
+        }
+        if (event != null && event.shouldCommit()) {
+            event.reset = reset;
+            event.listeners = clockStateListeners.size();
+            event.sleepers = sleepers;
+            event.commit();
+        }
+    }
+
+    /**
+     * Checks the clock seen by current thread, as clocks of other threads (e.g. of other clock scopes) could be
+     * changed or reset independently
+     */
+    private boolean isVirtual() {
+        return sleepMode != SleepMode.REAL && primary.isClockChanged() && getClock().getClass() != SYSTEM_CLOCK_TYPE;
+    }
+
+    /**
+     * @param once whether to return after the first wake-up, as parking may return spuriously
+     *
+     * @return whether the thread was interrupted
+     */
+    private boolean awaitVirtualTime(Object blocker, long nanos, boolean once) {
+        if (nanos <= 0) {
+            return false;
+        }
+
+        if (getClock() instanceof SchedulingClock clock) {
+            try {
+                if (clock.pause(nanos)) {
+                    return false;
+                }
+            } catch (InterruptedException ex) {
+                // parking keeps the interrupt status, while sleeping clears it by itself
+                Thread.currentThread().interrupt();
+                return true;
+            }
+        }
+
+        if (sleepMode == SleepMode.ADVANCE) {
+            advance(nanos);
+            return false;
+        }
+
+        Thread thread = Thread.currentThread();
+        long start = epochNanos();
+        long deadline = start + nanos < start ? Long.MAX_VALUE : start + nanos;
+        // the pause is never longer than in real time, so threads do not hang on a clock, that nobody changes
+        long realStart = System.nanoTime();
+        // registration precedes the check of the clock, so a clock change between them unparks the thread
+        sleepers.add(thread);
+        try {
+            do {
+                long now = epochNanos();
+                long realRemaining = nanos - (System.nanoTime() - realStart);
+                if (now >= deadline || realRemaining <= 0 || !isVirtual()) {
+                    return false;
+                }
+
+                long remaining = deadline - now;
+                // the clock could be set far back in the past, so saturate on overflow
+                LockSupport.parkNanos(blocker, remaining < 0 ? realRemaining : Math.min(remaining, realRemaining));
+                if (thread.isInterrupted()) {
+                    return true;
+                }
+            } while (!once);
+            return false;
+        } finally {
+            sleepers.remove(thread);
+        }
+    }
+
+    private enum SleepMode {
+        AWAIT,
+        ADVANCE,
+        REAL;
+
+        private static SleepMode fromProperty() {
+            String value = System.getProperty(SLEEP_MODE_PROPERTY, "await");
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Unknown sleep mode: %s".formatted(value), ex);
+            }
+        }
     }
 }
@@ -0,0 +1,25 @@
+package io.github.gallyamb.time.impl;
+
+/**
+ * Checks whether JFR is available, as {@code jdk.jfr} module is an optional dependency: it could be missing in custom
+ * runtime images or not resolved, when the application is run from the module path
+ * <p>
+ * JFR event classes extend {@code jdk.jfr.Event}, so they fail to load without it. That's why they have to be
+ * instantiated only after checking {@link #AVAILABLE}, and never referenced by code of this class
+ */
+final class FlightRecorderSupport {
+    static final boolean AVAILABLE = isAvailable();
+
+    private FlightRecorderSupport() {
+    }
+
+    private static boolean isAvailable() {
+        Module module = FlightRecorderSupport.class.getModule();
+        try {
+            Class<?> event = Class.forName("jdk.jfr.Event", false, FlightRecorderSupport.class.getClassLoader());
+            return module.canRead(event.getModule());
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+}
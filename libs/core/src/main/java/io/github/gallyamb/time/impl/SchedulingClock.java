@@ -0,0 +1,20 @@
+package io.github.gallyamb.time.impl;
+
+import java.time.Clock;
+
+/**
+ * Internal component: a {@link Clock}, that schedules the threads pausing by it itself. While it's set, the threads
+ * it schedules do not wait for the clock to be changed, but hand the pause over to the clock
+ */
+public abstract class SchedulingClock extends Clock {
+    /**
+     * Pauses current thread for the {@code nanos} measured by this clock, if the thread is scheduled by this clock
+     *
+     * @param nanos the positive duration of the pause in nanoseconds
+     *
+     * @return whether current thread is scheduled by this clock, i.e. whether the pause is done
+     *
+     * @throws InterruptedException if current thread is interrupted while pausing
+     */
+    public abstract boolean pause(long nanos) throws InterruptedException;
+}
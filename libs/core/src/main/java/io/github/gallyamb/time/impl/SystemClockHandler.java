@@ -1,6 +1,7 @@
 package io.github.gallyamb.time.impl;
 
 import java.time.Clock;
+import java.time.Instant;
 
 import io.github.gallyamb.time.ClockHandler;
 
@@ -13,6 +14,29 @@ public class SystemClockHandler implements ClockHandler {
         return Clock.systemDefaultZone();
     }
 
+    @Override
+    public Instant instant() {
+        // the default time zone is not resolved, which is costly on the first call
+        return Clock.systemUTC().instant();
+    }
+
+    @Override
+    public long epochMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public long epochNanos() {
+        // UTC system clock is a shared instance, so time zone is not resolved on every call
+        Instant instant = Clock.systemUTC().instant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    @Override
+    public boolean isClockChanged() {
+        return false;
+    }
+
     @Override
     public void reset() {
 
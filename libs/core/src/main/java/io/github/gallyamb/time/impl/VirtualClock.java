@@ -0,0 +1,101 @@
+package io.github.gallyamb.time.impl;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+/**
+ * Internal component: a {@link Clock} that shifts a base clock by an offset
+ * <p>
+ * Unlike {@link Clock#offset(Clock, Duration)} it keeps the base clock, the offset and the zone flat. So shifting it
+ * again (e.g. by {@code NowTest.tick()} or by virtual sleeping) produces a clock of the same depth, and reading
+ * time stays constant in cost no matter how many times the clock was shifted
+ * <p>
+ * Instances are immutable, so the clocks captured before a shift (e.g. to be restored later) are not affected by it
+ */
+public final class VirtualClock extends Clock {
+    private static final Class<?> FIXED_CLOCK_TYPE = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC).getClass();
+
+    private final Clock base;
+    private final Duration offset;
+    private final ZoneId zone;
+
+    private VirtualClock(Clock base, Duration offset, ZoneId zone) {
+        this.base = base;
+        this.offset = offset;
+        this.zone = zone;
+    }
+
+    /**
+     * @param clock  the clock to be shifted
+     * @param offset the duration to shift the {@code clock} by
+     *
+     * @return a clock, that's shifted by {@code offset} relative to the {@code clock}
+     */
+    public static Clock offset(Clock clock, Duration offset) {
+        if (offset.isZero()) {
+            return clock;
+        }
+        if (clock instanceof VirtualClock virtual) {
+            return new VirtualClock(virtual.base, virtual.offset.plus(offset), virtual.zone);
+        }
+        return new VirtualClock(clock, offset, clock.getZone());
+    }
+
+    /**
+     * @param clock the clock to be checked
+     *
+     * @return whether the {@code clock} is known to be fixed, i.e. it's a {@link Clock#fixed(Instant, ZoneId) fixed}
+     * clock or a shifted fixed clock
+     */
+    public static boolean isFixed(Clock clock) {
+        if (clock instanceof VirtualClock virtual) {
+            return isFixed(virtual.base);
+        }
+        return clock.getClass() == FIXED_CLOCK_TYPE;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone.equals(this.zone)) {
+            return this;
+        }
+        return new VirtualClock(base, offset, zone);
+    }
+
+    @Override
+    public long millis() {
+        return Math.addExact(base.millis(), offset.toMillis());
+    }
+
+    @Override
+    public Instant instant() {
+        return base.instant().plus(offset);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof VirtualClock other
+                && base.equals(other.base)
+                && offset.equals(other.offset)
+                && zone.equals(other.zone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(base, offset, zone);
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualClock[" + base + "," + offset + "," + zone + "]";
+    }
+}
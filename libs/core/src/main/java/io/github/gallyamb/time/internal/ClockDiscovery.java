@@ -0,0 +1,158 @@
+package io.github.gallyamb.time.internal;
+
+import java.lang.module.ModuleDescriptor;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.ClockHandlerRegistry;
+import io.github.gallyamb.time.ClockStateListener;
+import io.github.gallyamb.time.OptInClockHandler;
+import io.github.gallyamb.time.impl.CompositeClockHandler;
+import io.github.gallyamb.time.impl.SystemClockHandler;
+
+/**
+ * Internal component: resolves {@link ClockHandler}s and {@link ClockStateListener}s, both
+ * {@link ClockHandlerRegistry registered} and found via {@link ServiceLoader}
+ * <p>
+ * It's run on the first clock read, so it avoids lambdas, streams and regular expressions, that are costly to
+ * bootstrap, and skips {@link ServiceLoader} scanning when there are no providers for sure. Listeners are loaded on
+ * the first clock change only
+ */
+public final class ClockDiscovery {
+    private static final List<ClockHandler> HANDLERS = new ArrayList<>();
+    private static final List<ClockStateListener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static boolean handlersResolved;
+    private static volatile boolean listenersResolved;
+
+    private ClockDiscovery() {
+    }
+
+    /**
+     * @param handler the handler to be registered
+     *
+     * @throws IllegalStateException if handlers are already resolved
+     *
+     * @see ClockHandlerRegistry#register(ClockHandler)
+     */
+    public static synchronized void register(ClockHandler handler) {
+        Objects.requireNonNull(handler);
+        if (handlersResolved) {
+            String message = "Clock handlers have to be registered before the clock is read: %s".formatted(handler);
+            throw new IllegalStateException(message);
+        }
+        HANDLERS.add(handler);
+    }
+
+    /**
+     * @param listener the listener to be registered
+     *
+     * @see ClockHandlerRegistry#register(ClockStateListener)
+     */
+    public static void register(ClockStateListener listener) {
+        LISTENERS.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * @return registered and discovered listeners. The latter are loaded on the first call
+     */
+    public static List<ClockStateListener> listeners() {
+        if (!listenersResolved) {
+            resolveListeners();
+        }
+        return LISTENERS;
+    }
+
+    private static synchronized void resolveListeners() {
+        if (listenersResolved) {
+            return;
+        }
+        if (isDiscoveryEnabled() && mayHaveProviders(ClockStateListener.class, Set.of())) {
+            List<ClockStateListener> discovered = new ArrayList<>();
+            for (ClockStateListener listener : ServiceLoader.load(ClockStateListener.class)) {
+                discovered.add(listener);
+            }
+            LISTENERS.addAll(0, discovered);
+        }
+        listenersResolved = true;
+    }
+
+    static synchronized ClockHandler resolveHandler() {
+        handlersResolved = true;
+        List<ClockHandler> handlers = new ArrayList<>(HANDLERS);
+        Set<String> enabledOptInHandlers = enabledOptInHandlers();
+        if (isDiscoveryEnabled() && mayHaveProviders(ClockHandler.class, enabledOptInHandlers)) {
+            Iterator<ServiceLoader.Provider<ClockHandler>> providers = ServiceLoader.load(ClockHandler.class)
+                    .stream()
+                    .iterator();
+            while (providers.hasNext()) {
+                ServiceLoader.Provider<ClockHandler> provider = providers.next();
+                if (!OptInClockHandler.class.isAssignableFrom(provider.type())
+                        || enabledOptInHandlers.contains(provider.type().getName())) {
+                    handlers.add(provider.get());
+                }
+            }
+        }
+
+        if (handlers.isEmpty()) {
+            return new SystemClockHandler();
+        }
+        return new CompositeClockHandler(handlers);
+    }
+
+    private static boolean isDiscoveryEnabled() {
+        return !"false".equalsIgnoreCase(System.getProperty(ClockHandlerRegistry.DISCOVERY_PROPERTY));
+    }
+
+    private static Set<String> enabledOptInHandlers() {
+        String value = System.getProperty(OptInClockHandler.ENABLED_HANDLERS_PROPERTY, "");
+        Set<String> names = new HashSet<>();
+        int start = 0;
+        while (start <= value.length()) {
+            int end = value.indexOf(',', start);
+            if (end < 0) {
+                end = value.length();
+            }
+            String name = value.substring(start, end).strip();
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+            start = end + 1;
+        }
+        return names;
+    }
+
+    /**
+     * Checks module descriptors, that are already in memory, instead of scanning. It's possible only when the
+     * application is run on the module path of the boot layer without a class path, because providers on the class
+     * path are declared in resources
+     *
+     * @param enabledProviders providers of this module, that are enabled
+     *
+     * @return whether there could be providers of the {@code service}
+     */
+    private static boolean mayHaveProviders(Class<?> service, Set<String> enabledProviders) {
+        Module self = ClockDiscovery.class.getModule();
+        if (!self.isNamed() || self.getLayer() != ModuleLayer.boot()
+                || !System.getProperty("java.class.path", "").isEmpty()) {
+            return true;
+        }
+
+        for (Module module : ModuleLayer.boot().modules()) {
+            for (ModuleDescriptor.Provides provides : module.getDescriptor().provides()) {
+                if (!provides.service().equals(service.getName())) {
+                    continue;
+                }
+                if (module != self) {
+                    return true;
+                }
+                for (String provider : provides.providers()) {
+                    if (enabledProviders.contains(provider)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
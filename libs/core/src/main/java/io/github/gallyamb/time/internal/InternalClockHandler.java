@@ -1,11 +1,6 @@
 package io.github.gallyamb.time.internal;
 
-import java.util.List;
-import java.util.ServiceLoader;
-
 import io.github.gallyamb.time.ClockHandler;
-import io.github.gallyamb.time.impl.CompositeClockHandler;
-import io.github.gallyamb.time.impl.SystemClockHandler;
 
 /**
  * <b>Important notice!</b> If you are unlucky and cannot use JPMS to prevent you from seeing this message, I'm the
@@ -18,18 +13,9 @@ import io.github.gallyamb.time.impl.SystemClockHandler;
 public class InternalClockHandler {
     /**
      * Singleton instance of the {@link ClockHandler} used to manage time in JVM instance
+     * <p>
+     * It's resolved once and never changes, so the JIT treats it as a constant and inlines calls to it. See
+     * {@link ClockDiscovery} for the way it's resolved
      */
-    public static final ClockHandler INSTANCE;
-
-    static {
-        List<ClockHandler> clockHandlers = ServiceLoader.load(ClockHandler.class)
-                .stream()
-                .map(ServiceLoader.Provider::get)
-                .toList();
-        if (clockHandlers.isEmpty()) {
-            INSTANCE = new SystemClockHandler();
-        } else {
-            INSTANCE = new CompositeClockHandler(clockHandlers);
-        }
-    }
+    public static final ClockHandler INSTANCE = ClockDiscovery.resolveHandler();
 }
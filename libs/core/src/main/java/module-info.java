@@ -1,3 +1,6 @@
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.impl.CoarseClockHandler;
+
 /**
  * This module contains core API, that is used to retrieve current time in different representations
  * <p>
@@ -8,6 +11,20 @@ module io.github.gallyamb.time.core {
     uses io.github.gallyamb.time.ClockHandler;
     uses io.github.gallyamb.time.ClockStateListener;
 
-    exports io.github.gallyamb.time.internal to io.github.gallyamb.time.test.junit, io.github.gallyamb.time.test.core;
+    // JFR events are reported only if the module is present, see FlightRecorderSupport
+    requires static jdk.jfr;
+
+    provides ClockHandler with CoarseClockHandler;
+
+    exports io.github.gallyamb.time.impl to
+            io.github.gallyamb.time.core.test,
+            io.github.gallyamb.time.test.core,
+            io.github.gallyamb.time.test.shared;
+    exports io.github.gallyamb.time.internal to
+            io.github.gallyamb.time.concurrent,
+            io.github.gallyamb.time.test.junit,
+            io.github.gallyamb.time.test.core,
+            io.github.gallyamb.time.test.agent,
+            io.github.gallyamb.time.test.simulation;
     exports io.github.gallyamb.time;
 }
@@ -0,0 +1,104 @@
+package io.github.gallyamb.time.core.test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import io.github.gallyamb.time.impl.CoarseClockHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tickers are shared by handlers with the same resolution, so every test uses its own one
+ */
+public class CoarseClockHandlerTest {
+    private static final long TIMEOUT_NANOS = Duration.ofSeconds(10).toNanos();
+
+    private static Set<Thread> tickers() {
+        return Thread.getAllStackTraces()
+                .keySet()
+                .stream()
+                .filter(thread -> thread.getName().equals("coarse-clock-ticker"))
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testReadsAreCoarse() throws Exception {
+        Instant before = Clock.systemUTC().instant();
+        try (CoarseClockHandler handler = new CoarseClockHandler(Duration.ofHours(1))) {
+            Instant instant = handler.getClock().instant();
+            Assertions.assertFalse(instant.isBefore(before));
+            Assertions.assertFalse(instant.isAfter(Clock.systemUTC().instant()));
+
+            // the next tick is an hour later
+            Thread.sleep(50);
+            Assertions.assertEquals(instant, handler.getClock().instant());
+        }
+    }
+
+    @Test
+    public void testReadsAdvanceAfterTick() throws Exception {
+        try (CoarseClockHandler handler = new CoarseClockHandler(Duration.ofMillis(11))) {
+            Instant first = handler.getClock().instant();
+            long start = System.nanoTime();
+            Instant next = first;
+            while (next.equals(first) && System.nanoTime() - start < TIMEOUT_NANOS) {
+                Thread.sleep(1);
+                next = handler.getClock().instant();
+            }
+
+            Assertions.assertTrue(next.isAfter(first), "Clock has not advanced");
+            Assertions.assertFalse(next.isAfter(Clock.systemUTC().instant()));
+        }
+    }
+
+    @Test
+    public void testClockChangesAreNotOverwrittenByTicks() throws Exception {
+        try (CoarseClockHandler handler = new CoarseClockHandler(Duration.ofMillis(12))) {
+            handler.setClock(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+            Assertions.assertTrue(handler.isClockChanged());
+            Assertions.assertEquals(Instant.EPOCH, handler.getClock().instant());
+
+            // several ticks pass
+            Thread.sleep(100);
+            Assertions.assertEquals(Instant.EPOCH, handler.getClock().instant());
+
+            Instant before = Clock.systemUTC().instant().minusSeconds(1);
+            handler.reset();
+            Assertions.assertFalse(handler.isClockChanged());
+            Assertions.assertTrue(handler.getClock().instant().isAfter(before));
+
+            Thread.sleep(100);
+            Assertions.assertTrue(handler.getClock().instant().isAfter(before));
+        }
+    }
+
+    @Test
+    public void testTickerIsStoppedWhenLastHandlerIsClosed() throws Exception {
+        Set<Thread> running = tickers();
+        CoarseClockHandler first = new CoarseClockHandler(Duration.ofMillis(13));
+        CoarseClockHandler second = new CoarseClockHandler(Duration.ofMillis(13));
+
+        Set<Thread> started = tickers();
+        started.removeAll(running);
+        Assertions.assertEquals(1, started.size(), "Handlers with the same resolution have to share a ticker");
+        Thread ticker = started.iterator().next();
+
+        first.close();
+        // closing is idempotent, so the ticker is still used by the second handler
+        first.close();
+        Thread.sleep(50);
+        Assertions.assertTrue(ticker.isAlive());
+
+        second.close();
+        ticker.join(Duration.ofNanos(TIMEOUT_NANOS).toMillis());
+        Assertions.assertFalse(ticker.isAlive());
+
+        // closed handlers read the system clock
+        Instant before = Clock.systemUTC().instant();
+        Assertions.assertFalse(second.getClock().instant().isBefore(before));
+    }
+}
@@ -0,0 +1,6 @@
+module io.github.gallyamb.time.core.test {
+    exports io.github.gallyamb.time.core.test;
+
+    requires io.github.gallyamb.time.core;
+    requires org.junit.jupiter.api;
+}
@@ -0,0 +1,7 @@
+plugins {
+    id("io.github.gallyamb.time.java-library")
+}
+
+dependencies {
+    api(project(":time-core"))
+}
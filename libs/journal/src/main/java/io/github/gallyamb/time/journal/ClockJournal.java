@@ -0,0 +1,204 @@
+package io.github.gallyamb.time.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A journal of current time reads recorded by {@link RecordingClockHandler}. Every read is recorded as nanoseconds
+ * from the epoch of 1970-01-01T00:00:00Z together with the id of the thread, that read the time
+ * <p>
+ * The journal file is a ring of fixed capacity: when it's full, the oldest reads are overwritten. The file starts with
+ * a header of {@value #HEADER_SIZE} bytes: magic number, format version, capacity and the count of recorded reads.
+ * Then {@value #ENTRY_SIZE} bytes entries follow, all numbers are little-endian. Every entry ends with a commit stamp,
+ * that's the sequence number of the read plus one, written after the rest of the entry. Entries, that are not
+ * committed (e.g. the recording process was killed in the middle of the write, or the entry is being overwritten
+ * right now), are skipped on reading
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * var journal = ClockJournal.read(Path.of("time-journal.bin"));
+ * for (int i = 0; i &lt; journal.size(); i++) {
+ *     System.out.println(journal.threadId(i) + " " + Instant.EPOCH.plusNanos(journal.epochNanos(i)));
+ * }
+ * </pre>
+ */
+public final class ClockJournal {
+    /**
+     * The system property with the path of the journal file. {@code time-journal.bin} in the working directory by
+     * default
+     */
+    public static final String FILE_PROPERTY = "io.github.gallyamb.time.journal.file";
+    /**
+     * The system property with the capacity of the journal in reads, that have to be a power of two. 1048576 by
+     * default
+     */
+    public static final String CAPACITY_PROPERTY = "io.github.gallyamb.time.journal.capacity";
+
+    static final int HEADER_SIZE = 64;
+    static final int ENTRY_SIZE = 24;
+    static final int STAMP_OFFSET = 2 * Long.BYTES;
+    static final int CAPACITY_OFFSET = 8;
+    static final int COUNT_OFFSET = 16;
+    static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final int MAGIC = 0x4e524a54;
+    private static final int VERSION = 2;
+    private static final String DEFAULT_FILE = "time-journal.bin";
+    private static final int DEFAULT_CAPACITY = 1 << 20;
+    private static final int MAX_CAPACITY = Integer.highestOneBit((Integer.MAX_VALUE - HEADER_SIZE) / ENTRY_SIZE);
+
+    private final long[] epochNanos;
+    private final long[] threadIds;
+
+    private ClockJournal(long[] epochNanos, long[] threadIds) {
+        this.epochNanos = epochNanos;
+        this.threadIds = threadIds;
+    }
+
+    /**
+     * Reads the journal file. The reads are ordered from the oldest one to the latest one, reads that are not committed
+     * are skipped
+     *
+     * @param file the journal file
+     *
+     * @return the journal
+     *
+     * @throws UncheckedIOException     if the file could not be read
+     * @throws IllegalArgumentException if the file is not a journal
+     */
+    public static ClockJournal read(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IllegalArgumentException("Not a clock journal: %s".formatted(file));
+            }
+
+            long capacity = buffer.getLong(CAPACITY_OFFSET);
+            long count = buffer.getLong(COUNT_OFFSET);
+            if (capacity <= 0 || capacity > MAX_CAPACITY || buffer.limit() < size(capacity)) {
+                throw new IllegalArgumentException("Clock journal is truncated: %s".formatted(file));
+            }
+
+            int entries = (int) Math.min(count, capacity);
+            long first = count - entries;
+            long[] epochNanos = new long[entries];
+            long[] threadIds = new long[entries];
+            int size = 0;
+            for (long sequence = first; sequence < count; sequence++) {
+                int offset = offset(sequence, capacity - 1);
+                long stamp = (long) LONG.getAcquire(buffer, offset + STAMP_OFFSET);
+                epochNanos[size] = buffer.getLong(offset);
+                threadIds[size] = buffer.getLong(offset + Long.BYTES);
+                VarHandle.loadLoadFence();
+                // the stamp is changed before the entry is overwritten, so the entry is torn, if it's changed
+                if (stamp == sequence + 1 && (long) LONG.get(buffer, offset + STAMP_OFFSET) == stamp) {
+                    size++;
+                }
+            }
+            return size == entries
+                    ? new ClockJournal(epochNanos, threadIds)
+                    : new ClockJournal(Arrays.copyOf(epochNanos, size), Arrays.copyOf(threadIds, size));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * @return count of the reads in the journal
+     */
+    public int size() {
+        return epochNanos.length;
+    }
+
+    /**
+     * @param index the index of the read, from the oldest one to the latest one
+     *
+     * @return the time read in nanoseconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    public long epochNanos(int index) {
+        return epochNanos[index];
+    }
+
+    /**
+     * @param index the index of the read, from the oldest one to the latest one
+     *
+     * @return the id of the thread, that read the time
+     *
+     * @see Thread#getId()
+     */
+    public long threadId(int index) {
+        return threadIds[index];
+    }
+
+    static Path fileFromProperty() {
+        return Path.of(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+    }
+
+    static int capacityFromProperty() {
+        return Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates new empty journal file, or truncates the existing one
+     *
+     * @return the buffer mapped to the whole journal file
+     */
+    static MappedByteBuffer create(Path file, int capacity) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity have to be a power of two up to %s: %s".formatted(MAX_CAPACITY, capacity)
+            );
+        }
+
+        try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size(capacity));
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putLong(CAPACITY_OFFSET, capacity);
+            buffer.putLong(COUNT_OFFSET, 0);
+            return buffer;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Writes the entry with the {@code sequence} number. The commit stamp is reset before the entry is written and set
+     * after that, so readers could detect torn entries
+     */
+    static void write(MappedByteBuffer buffer, long sequence, long mask, long epochNanos, long threadId) {
+        int offset = offset(sequence, mask);
+        LONG.setOpaque(buffer, offset + STAMP_OFFSET, 0L);
+        VarHandle.storeStoreFence();
+        LONG.set(buffer, offset, epochNanos);
+        LONG.set(buffer, offset + Long.BYTES, threadId);
+        LONG.setRelease(buffer, offset + STAMP_OFFSET, sequence + 1);
+    }
+
+    /**
+     * @return offset of the entry with the {@code sequence} number in the journal file
+     */
+    private static int offset(long sequence, long mask) {
+        return HEADER_SIZE + (int) (sequence & mask) * ENTRY_SIZE;
+    }
+
+    private static long size(long capacity) {
+        return HEADER_SIZE + capacity * ENTRY_SIZE;
+    }
+}
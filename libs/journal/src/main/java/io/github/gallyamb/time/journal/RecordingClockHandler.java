@@ -0,0 +1,157 @@
+package io.github.gallyamb.time.journal;
+
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.OptInClockHandler;
+
+/**
+ * An implementation of {@link ClockHandler}, that records every read of current time into a {@link ClockJournal},
+ * so the exact sequence of timestamps observed by a service could be {@link ReplayingClockHandler replayed} later
+ * <p>
+ * The journal file is mapped into memory, and a read is recorded by a single atomic increment of the reads counter
+ * in the file and a few writes of the entry, the last of which commits it, so recording costs tens of nanoseconds and
+ * takes no locks. The journal is not flushed explicitly: the OS writes it to the file even if the JVM crashes
+ * <p>
+ * To enable it, add {@code io.github.gallyamb.time.journal.RecordingClockHandler} to the
+ * {@value OptInClockHandler#ENABLED_HANDLERS_PROPERTY} system property. The journal file and its capacity are
+ * configured via {@value ClockJournal#FILE_PROPERTY} and {@value ClockJournal#CAPACITY_PROPERTY} system properties.
+ * Clock still could be changed in tests, and reads of the changed clock are recorded too
+ */
+public class RecordingClockHandler implements OptInClockHandler {
+    private final MappedByteBuffer buffer;
+    private final long mask;
+    /**
+     * Incremented on every clock change, so recording clocks of previous changes, that could be wrapped by the changed
+     * clock (e.g. by {@code NowTest.tick()}), do not record the same read twice
+     */
+    private volatile long generation;
+    private volatile RecordingClock clock;
+
+    /**
+     * Constructs new {@link RecordingClockHandler}, that records reads into the journal file specified via
+     * {@value ClockJournal#FILE_PROPERTY} system property
+     */
+    public RecordingClockHandler() {
+        this(ClockJournal.fileFromProperty(), ClockJournal.capacityFromProperty());
+    }
+
+    /**
+     * Constructs new {@link RecordingClockHandler}. The journal file is created, or truncated if it exists
+     *
+     * @param file     the journal file
+     * @param capacity count of the latest reads kept in the journal. It have to be a power of two
+     */
+    public RecordingClockHandler(Path file, int capacity) {
+        this.buffer = ClockJournal.create(file, capacity);
+        this.mask = capacity - 1;
+        this.clock = new RecordingClock(Clock.systemDefaultZone(), 0);
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public long epochMillis() {
+        long millis = clock.delegate.millis();
+        record(Math.multiplyExact(millis, 1_000_000L));
+        return millis;
+    }
+
+    @Override
+    public long epochNanos() {
+        long nanos = toEpochNanos(clock.delegate.instant());
+        record(nanos);
+        return nanos;
+    }
+
+    @Override
+    public boolean isClockChanged() {
+        // reads are recorded anyway, so the clock is changed only if it's not a system one
+        return clock.delegate.getClass() != Clock.systemUTC().getClass();
+    }
+
+    @Override
+    public void setClock(Clock clock) {
+        this.clock = new RecordingClock(clock, ++generation);
+    }
+
+    @Override
+    public void reset() {
+        this.clock = new RecordingClock(Clock.systemDefaultZone(), ++generation);
+    }
+
+    private void record(long epochNanos) {
+        long sequence = (long) ClockJournal.LONG.getAndAdd(buffer, ClockJournal.COUNT_OFFSET, 1L);
+        ClockJournal.write(buffer, sequence, mask, epochNanos, Thread.currentThread().getId());
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    /**
+     * A {@link Clock}, that records every read of the delegate clock
+     */
+    private final class RecordingClock extends Clock {
+        private final Clock delegate;
+        private final long generation;
+
+        private RecordingClock(Clock delegate, long generation) {
+            this.delegate = Objects.requireNonNull(delegate);
+            this.generation = generation;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return delegate.getZone();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(getZone()) ? this : new RecordingClock(delegate.withZone(zone), generation);
+        }
+
+        @Override
+        public long millis() {
+            long millis = delegate.millis();
+            if (generation == RecordingClockHandler.this.generation) {
+                record(Math.multiplyExact(millis, 1_000_000L));
+            }
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            Instant instant = delegate.instant();
+            if (generation == RecordingClockHandler.this.generation) {
+                record(toEpochNanos(instant));
+            }
+            return instant;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof RecordingClock other
+                    && delegate.equals(other.delegate)
+                    && generation == other.generation;
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "RecordingClock[" + delegate + "]";
+        }
+    }
+}
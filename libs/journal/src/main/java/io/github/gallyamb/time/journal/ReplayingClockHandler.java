@@ -0,0 +1,136 @@
+package io.github.gallyamb.time.journal;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.OptInClockHandler;
+
+/**
+ * An implementation of {@link ClockHandler}, that serves current time reads from a {@link ClockJournal} recorded by
+ * {@link RecordingClockHandler}. Every read returns the next recorded time, in the order they were recorded, no matter
+ * which thread reads it
+ * <p>
+ * To enable it, add {@code io.github.gallyamb.time.journal.ReplayingClockHandler} to the
+ * {@value OptInClockHandler#ENABLED_HANDLERS_PROPERTY} system property. The journal file is specified via
+ * {@value ClockJournal#FILE_PROPERTY} system property. While the clock is changed (e.g. in tests), the changed clock is
+ * read instead of the journal
+ */
+public class ReplayingClockHandler implements OptInClockHandler {
+    private final ClockJournal journal;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Clock replayingClock = new ReplayingClock(ZoneId.systemDefault());
+    private volatile Clock clock = replayingClock;
+
+    /**
+     * Constructs new {@link ReplayingClockHandler}, that replays the journal file specified via
+     * {@value ClockJournal#FILE_PROPERTY} system property
+     */
+    public ReplayingClockHandler() {
+        this(ClockJournal.read(ClockJournal.fileFromProperty()));
+    }
+
+    /**
+     * Constructs new {@link ReplayingClockHandler}
+     *
+     * @param file the journal file
+     */
+    public ReplayingClockHandler(Path file) {
+        this(ClockJournal.read(file));
+    }
+
+    /**
+     * Constructs new {@link ReplayingClockHandler}
+     *
+     * @param journal the journal to be replayed
+     */
+    public ReplayingClockHandler(ClockJournal journal) {
+        this.journal = Objects.requireNonNull(journal);
+    }
+
+    /**
+     * @return count of the reads, that are not replayed yet
+     */
+    public int remaining() {
+        return Math.max(journal.size() - cursor.get(), 0);
+    }
+
+    @Override
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public long epochMillis() {
+        return clock == replayingClock ? Math.floorDiv(next(), 1_000_000L) : clock.millis();
+    }
+
+    @Override
+    public long epochNanos() {
+        return clock == replayingClock ? next() : OptInClockHandler.super.epochNanos();
+    }
+
+    @Override
+    public boolean isClockChanged() {
+        return clock != replayingClock;
+    }
+
+    @Override
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void reset() {
+        this.clock = replayingClock;
+    }
+
+    private long next() {
+        int index = cursor.getAndIncrement();
+        if (index >= journal.size()) {
+            throw new IllegalStateException("Clock journal is exhausted after %s reads".formatted(journal.size()));
+        }
+        return journal.epochNanos(index);
+    }
+
+    /**
+     * A {@link Clock}, that replays the journal
+     */
+    private final class ReplayingClock extends Clock {
+        private final ZoneId zone;
+
+        private ReplayingClock(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(this.zone) ? this : new ReplayingClock(zone);
+        }
+
+        @Override
+        public long millis() {
+            return Math.floorDiv(next(), 1_000_000L);
+        }
+
+        @Override
+        public Instant instant() {
+            long nanos = next();
+            return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+        }
+
+        @Override
+        public String toString() {
+            return "ReplayingClock[" + zone + "]";
+        }
+    }
+}
@@ -0,0 +1,20 @@
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.journal.RecordingClockHandler;
+import io.github.gallyamb.time.journal.ReplayingClockHandler;
+
+/**
+ * This module contains {@link ClockHandler}s, that record every read of current time into a memory-mapped journal,
+ * and replay the recorded reads back in the same order
+ * <p>
+ * Both handlers are {@link io.github.gallyamb.time.OptInClockHandler}s, so the module could be shipped within
+ * production libraries without changing the default behaviour
+ *
+ * @see io.github.gallyamb.time.journal.ClockJournal
+ */
+module io.github.gallyamb.time.journal {
+    provides ClockHandler with RecordingClockHandler, ReplayingClockHandler;
+
+    exports io.github.gallyamb.time.journal;
+
+    requires transitive io.github.gallyamb.time.core;
+}
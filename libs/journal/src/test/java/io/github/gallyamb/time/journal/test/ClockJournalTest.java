@@ -0,0 +1,169 @@
+package io.github.gallyamb.time.journal.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.gallyamb.time.journal.ClockJournal;
+import io.github.gallyamb.time.journal.RecordingClockHandler;
+import io.github.gallyamb.time.journal.ReplayingClockHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClockJournalTest {
+    private static final Instant MOMENT = Instant.parse("2020-05-12T11:23:55.123456789Z");
+
+    @TempDir
+    public Path directory;
+
+    private static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    @Test
+    public void testReadsAreRecorded() {
+        Path file = directory.resolve("journal.bin");
+        RecordingClockHandler handler = new RecordingClockHandler(file, 16);
+        List<Long> reads = new ArrayList<>();
+        reads.add(handler.epochNanos());
+        reads.add(toEpochNanos(handler.getClock().instant()));
+        reads.add(handler.epochMillis() * 1_000_000L);
+
+        ClockJournal journal = ClockJournal.read(file);
+        Assertions.assertEquals(reads.size(), journal.size());
+        for (int i = 0; i < reads.size(); i++) {
+            Assertions.assertEquals(reads.get(i), journal.epochNanos(i));
+            Assertions.assertEquals(Thread.currentThread().getId(), journal.threadId(i));
+        }
+    }
+
+    @Test
+    public void testLatestReadsAreKept() {
+        Path file = directory.resolve("journal.bin");
+        RecordingClockHandler handler = new RecordingClockHandler(file, 4);
+        handler.setClock(Clock.fixed(MOMENT, ZoneOffset.UTC));
+        for (int i = 0; i < 10; i++) {
+            handler.setClock(Clock.fixed(MOMENT.plusSeconds(i), ZoneOffset.UTC));
+            handler.getClock().instant();
+        }
+
+        ClockJournal journal = ClockJournal.read(file);
+        Assertions.assertEquals(4, journal.size());
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(toEpochNanos(MOMENT.plusSeconds(6 + i)), journal.epochNanos(i));
+        }
+    }
+
+    @Test
+    public void testWrappedClockIsRecordedOnce() {
+        Path file = directory.resolve("journal.bin");
+        RecordingClockHandler handler = new RecordingClockHandler(file, 16);
+        handler.setClock(Clock.fixed(MOMENT, ZoneOffset.UTC));
+        // as NowTest.tick() does
+        handler.setClock(Clock.offset(handler.getClock(), Duration.ofSeconds(1)));
+        handler.getClock().instant();
+
+        ClockJournal journal = ClockJournal.read(file);
+        Assertions.assertEquals(1, journal.size());
+        Assertions.assertEquals(toEpochNanos(MOMENT.plusSeconds(1)), journal.epochNanos(0));
+    }
+
+    @Test
+    public void testReadsAreReplayedInOrder() {
+        Path file = directory.resolve("journal.bin");
+        RecordingClockHandler recording = new RecordingClockHandler(file, 16);
+        List<Long> reads = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            reads.add(recording.epochNanos());
+        }
+
+        ReplayingClockHandler replaying = new ReplayingClockHandler(file);
+        Assertions.assertEquals(5, replaying.remaining());
+        Assertions.assertEquals(reads.get(0), replaying.epochNanos());
+        Assertions.assertEquals(reads.get(1), toEpochNanos(replaying.getClock().instant()));
+        Assertions.assertEquals(reads.get(2) / 1_000_000L, replaying.getClock().millis());
+        Assertions.assertEquals(reads.get(3), replaying.epochNanos());
+        Assertions.assertEquals(reads.get(4), replaying.epochNanos());
+        Assertions.assertThrows(IllegalStateException.class, replaying::epochNanos);
+    }
+
+    @Test
+    public void testChangedClockOverridesReplay() {
+        Path file = directory.resolve("journal.bin");
+        new RecordingClockHandler(file, 16).epochNanos();
+
+        ReplayingClockHandler replaying = new ReplayingClockHandler(file);
+        replaying.setClock(Clock.fixed(MOMENT, ZoneOffset.UTC));
+        Assertions.assertEquals(toEpochNanos(MOMENT), replaying.epochNanos());
+
+        replaying.reset();
+        Assertions.assertEquals(1, replaying.remaining());
+    }
+
+    @Test
+    public void testConcurrentReadsAreRecorded() throws InterruptedException {
+        Path file = directory.resolve("journal.bin");
+        RecordingClockHandler handler = new RecordingClockHandler(file, 1 << 16);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int read = 0; read < 10_000; read++) {
+                    handler.epochNanos();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        ClockJournal journal = ClockJournal.read(file);
+        Assertions.assertEquals(40_000, journal.size());
+        for (int i = 0; i < journal.size(); i++) {
+            Assertions.assertNotEquals(0, journal.epochNanos(i));
+        }
+    }
+
+    @Test
+    public void testUncommittedReadsAreSkipped() throws Exception {
+        Path file = directory.resolve("journal.bin");
+        RecordingClockHandler handler = new RecordingClockHandler(file, 16);
+        List<Long> reads = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            reads.add(handler.epochNanos());
+        }
+        // as if the recording process was killed after the reads counter was incremented, but before the entry was
+        // written
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer count = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 4);
+            channel.write(count, 16);
+        }
+
+        ClockJournal journal = ClockJournal.read(file);
+        Assertions.assertEquals(reads.size(), journal.size());
+        for (int i = 0; i < reads.size(); i++) {
+            Assertions.assertEquals(reads.get(i), journal.epochNanos(i));
+        }
+    }
+
+    @Test
+    public void testInvalidJournal() throws Exception {
+        Path file = Files.writeString(directory.resolve("journal.bin"), "not a journal");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ClockJournal.read(file));
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new RecordingClockHandler(directory.resolve("other.bin"), 3)
+        );
+    }
+}
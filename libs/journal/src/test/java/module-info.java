@@ -0,0 +1,6 @@
+module io.github.gallyamb.time.journal.test {
+    exports io.github.gallyamb.time.journal.test;
+
+    requires io.github.gallyamb.time.journal;
+    requires org.junit.jupiter.api;
+}
@@ -4,8 +4,10 @@ plugins {
 
 dependencies {
     implementation(project(":time-core"))
+    implementation(project(":time-test-core"))
     testImplementation(project(":time-test-plain"))
     testImplementation(testFixtures(project(":time-test-core")))
 
     implementation("org.junit.platform:junit-platform-launcher")
+    implementation("org.junit.jupiter:junit-jupiter-api")
 }
@@ -0,0 +1,99 @@
+package io.github.gallyamb.time.test.junit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import io.github.gallyamb.time.internal.InternalClockHandler;
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.impl.ClockScope;
+import io.github.gallyamb.time.test.impl.ClockState;
+
+/**
+ * Controls the clock of a single test. It's injected by {@link TimeExtension} into test methods, as well as
+ * {@code @BeforeEach} and {@code @AfterEach} methods
+ * <p>
+ * The controller is bound to the clock scope of the test, so it could be used from any thread, and does not affect
+ * tests run in parallel. After the test the clock is restored to the state it had before the test, e.g. to the
+ * moment specified by {@link FixedTime}
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * &#64;ExtendWith(TimeExtension.class)
+ * public class MyTest {
+ *     &#64;Test
+ *     public void testExpiration(ClockController clock) {
+ *         clock.setMoment(Instant.parse("2020-05-12T11:23:55Z"));
+ *         var token = new Token(Duration.ofHours(1));
+ *
+ *         clock.tick(Duration.ofHours(2));
+ *         Assertions.assertTrue(token.isExpired());
+ *     }
+ * }
+ * </pre>
+ */
+public final class ClockController {
+    private final ClockScope scope;
+
+    ClockController(ClockScope scope) {
+        this.scope = scope;
+    }
+
+    /**
+     * @return the current clock of the test
+     */
+    public Clock getClock() {
+        return scope.supply(InternalClockHandler.INSTANCE::getClock);
+    }
+
+    /**
+     * @return whether the clock of the test is changed
+     */
+    public boolean isChanged() {
+        return scope.supply(ClockState::changed);
+    }
+
+    /**
+     * @param clock the clock to be used by the test
+     */
+    public void setClock(Clock clock) {
+        scope.run(() -> InternalClockHandler.INSTANCE.setClock(clock));
+    }
+
+    /**
+     * Fixes the clock at the {@code instant} keeping the time zone of the current clock
+     *
+     * @param instant the moment to fix the clock at
+     */
+    public void setMoment(Instant instant) {
+        scope.run(() -> InternalClockHandler.INSTANCE.setClock(Clock.fixed(instant, getClock().getZone())));
+    }
+
+    /**
+     * Fixes the clock at the {@code dateTime} in its time zone
+     *
+     * @param dateTime the moment to fix the clock at
+     */
+    public void setMoment(ZonedDateTime dateTime) {
+        setClock(Clock.fixed(dateTime.toInstant(), dateTime.getZone()));
+    }
+
+    /**
+     * Increases current datetime by the {@code duration}. The clock have to be changed already
+     *
+     * @param duration the non-negative duration, that will be added to current time
+     *
+     * @see NowTest#tick(Duration)
+     */
+    public void tick(Duration duration) {
+        scope.run(() -> NowTest.tick(duration));
+    }
+
+    /**
+     * Resets the clock to the system one
+     */
+    public void reset() {
+        scope.run(InternalClockHandler.INSTANCE::reset);
+    }
+}
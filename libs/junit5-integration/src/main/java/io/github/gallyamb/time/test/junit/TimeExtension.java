@@ -0,0 +1,80 @@
+package io.github.gallyamb.time.test.junit;
+
+import java.time.Clock;
+
+import io.github.gallyamb.time.internal.InternalClockHandler;
+import io.github.gallyamb.time.test.impl.ClockScope;
+import io.github.gallyamb.time.test.impl.ClockState;
+import org.junit.jupiter.api.extension.*;
+
+/**
+ * JUnit Jupiter {@link Extension}, that injects {@link ClockController} parameters into test methods, as well as
+ * {@code @BeforeEach} and {@code @AfterEach} methods, and restores the clock after each test
+ * <p>
+ * Like {@link FixedTime}, it relies on the clock scope, that's opened for every test by JUnit5 integration, so tests
+ * could be run in parallel
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * &#64;ExtendWith(TimeExtension.class)
+ * &#64;FixedTime("2020-05-12T11:23:55Z")
+ * public class MyTest {
+ *     &#64;Test
+ *     public void testTick(ClockController clock) {
+ *         clock.tick(Duration.ofMinutes(5));
+ *         Assertions.assertEquals(Instant.parse("2020-05-12T11:28:55Z"), Now.instant());
+ *     }
+ * }
+ * </pre>
+ */
+public class TimeExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TimeExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ClockScope scope = ClockScope.current();
+        Clock clock = ClockState.changed() ? InternalClockHandler.INSTANCE.getClock() : null;
+        context.getStore(NAMESPACE).put(TestState.class, new TestState(new ClockController(scope), clock));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestState state = context.getStore(NAMESPACE).remove(TestState.class, TestState.class);
+        if (state == null) {
+            return;
+        }
+
+        // restore the clock, that was set before the test, e.g. via FixedTime
+        ClockController controller = state.controller();
+        if (state.clock() != null) {
+            if (!state.clock().equals(controller.getClock())) {
+                controller.setClock(state.clock());
+            }
+        } else if (controller.isChanged()) {
+            controller.reset();
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == ClockController.class
+                && extensionContext.getTestMethod().isPresent();
+    }
+
+    @Override
+    public ClockController resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        TestState state = extensionContext.getStore(NAMESPACE).get(TestState.class, TestState.class);
+        if (state == null) {
+            throw new ParameterResolutionException(
+                    "ClockController is not available for: %s".formatted(parameterContext.getDeclaringExecutable())
+            );
+        }
+        return state.controller();
+    }
+
+    /**
+     * @param clock the clock set before the test, or {@code null} if the clock was not changed
+     */
+    private record TestState(ClockController controller, Clock clock) {
+    }
+}
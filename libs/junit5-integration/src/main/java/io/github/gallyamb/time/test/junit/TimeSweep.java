@@ -0,0 +1,96 @@
+package io.github.gallyamb.time.test.junit;
+
+import java.lang.annotation.*;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Runs the test for every moment of a sweep, each invocation under its own clock fixed at the moment. Moments are
+ * taken within [{@link #from()}, {@link #to()}) and are either:
+ * <ul>
+ *     <li>spaced by the {@link #step()}, e.g. every hour, or every month to check month ends</li>
+ *     <li>around {@link #transitions() transitions} of the time zone rules, e.g. DST changes</li>
+ *     <li>both of them merged, if both are specified</li>
+ * </ul>
+ * The moment could be injected into the test as {@link java.time.Instant} or {@link java.time.ZonedDateTime}
+ * parameter
+ * <p>
+ * Every invocation is a separate test run within its own clock scope, so, with a scope-aware clock handler (e.g.
+ * {@code io.github.gallyamb.time.test.scoped.ScopedClock}) and parallel execution enabled, invocations are run in
+ * parallel. With a global clock (e.g. {@code io.github.gallyamb.time.test.plain.PlainClock}) they have to be run
+ * sequentially
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * // 3 invocations per DST change: a second before, at the transition and a second after it
+ * &#64;TimeSweep(
+ *         from = "2020-01-01T00:00:00+01:00[Europe/Berlin]",
+ *         to = "2030-01-01T00:00:00+01:00[Europe/Berlin]",
+ *         transitions = true,
+ *         around = {"-PT1S", "PT0S", "PT1S"}
+ * )
+ * public void testDaylightSavingTime(ZonedDateTime moment) {
+ *     Assertions.assertEquals(moment.toLocalDate(), Now.localDate());
+ * }
+ *
+ * // last day of every month within 4 years, including leap days
+ * &#64;TimeSweep(from = "2020-01-31T12:00:00Z", to = "2024-01-01T00:00:00Z", step = "P1M")
+ * public void testMonthEnds() {
+ * }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@TestTemplate
+@ExtendWith(TimeSweepExtension.class)
+public @interface TimeSweep {
+    /**
+     * Either {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} or
+     * {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME} formatted datetime
+     *
+     * @return the first moment of the sweep, inclusive
+     */
+    String from();
+
+    /**
+     * Either {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} or
+     * {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME} formatted datetime
+     *
+     * @return the end of the sweep, exclusive
+     */
+    String to();
+
+    /**
+     * Either ISO-8601 duration (e.g. {@code PT1H}), that's added on the time-line, or period (e.g. {@code P1M}), that's
+     * added on the local time-line of the {@link #zone()}. Steps are multiplied rather than accumulated, so the sweep
+     * from the 31st of January by {@code P1M} visits the last day of every month
+     *
+     * @return the positive step between moments, or empty to not step at all
+     */
+    String step() default "";
+
+    /**
+     * @return the time zone of the clocks, or empty to use the time zone of {@link #from()}
+     */
+    String zone() default "";
+
+    /**
+     * @return whether to visit moments around every transition of the {@link #zone()} rules
+     */
+    boolean transitions() default false;
+
+    /**
+     * @return ISO-8601 durations relative to every transition, that are visited when {@link #transitions()} is set
+     */
+    String[] around() default {"-PT1S", "PT0S"};
+
+    /**
+     * Display name of invocations. {@code {index}} is replaced by the index of the invocation starting with 1, and
+     * {@code {moment}} by the moment
+     *
+     * @return the display name of invocations
+     */
+    String name() default "[{index}] {moment}";
+}
@@ -0,0 +1,88 @@
+package io.github.gallyamb.time.test.junit;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import io.github.gallyamb.time.internal.InternalClockHandler;
+import io.github.gallyamb.time.test.impl.ClockState;
+import io.github.gallyamb.time.test.junit.impl.TimeSweeps;
+import org.junit.jupiter.api.extension.*;
+
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
+
+/**
+ * {@link TestTemplateInvocationContextProvider}, that provides invocations of {@link TimeSweep} tests. It's registered
+ * by the annotation itself, so there is no need to register it explicitly
+ */
+public class TimeSweepExtension implements TestTemplateInvocationContextProvider {
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod().flatMap(method -> findAnnotation(method, TimeSweep.class)).isPresent();
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        TimeSweep sweep = findAnnotation(context.getRequiredTestMethod(), TimeSweep.class).orElseThrow();
+        AtomicLong index = new AtomicLong();
+        return TimeSweeps.moments(sweep)
+                .map(moment -> new Invocation(sweep.name(), index.incrementAndGet(), moment));
+    }
+
+    private record Invocation(String name, long index, ZonedDateTime moment) implements TestTemplateInvocationContext {
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return name.replace("{index}", String.valueOf(index))
+                    .replace("{moment}", moment.toString());
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(new MomentExtension(moment));
+        }
+    }
+
+    /**
+     * Fixes the clock at the moment for a single invocation, and restores it afterwards
+     */
+    private static final class MomentExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+        private final ZonedDateTime moment;
+        /**
+         * The clock set before the invocation, or {@code null} if the clock was not changed
+         */
+        private Clock previous;
+
+        private MomentExtension(ZonedDateTime moment) {
+            this.moment = moment;
+        }
+
+        @Override
+        public void beforeEach(ExtensionContext context) {
+            previous = ClockState.changed() ? InternalClockHandler.INSTANCE.getClock() : null;
+            InternalClockHandler.INSTANCE.setClock(Clock.fixed(moment.toInstant(), moment.getZone()));
+        }
+
+        @Override
+        public void afterEach(ExtensionContext context) {
+            if (previous != null) {
+                InternalClockHandler.INSTANCE.setClock(previous);
+            } else {
+                InternalClockHandler.INSTANCE.reset();
+            }
+        }
+
+        @Override
+        public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            Class<?> type = parameterContext.getParameter().getType();
+            return type == Instant.class || type == ZonedDateTime.class;
+        }
+
+        @Override
+        public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            return parameterContext.getParameter().getType() == Instant.class ? moment.toInstant() : moment;
+        }
+    }
+}
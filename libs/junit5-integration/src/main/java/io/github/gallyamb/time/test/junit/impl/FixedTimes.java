@@ -0,0 +1,111 @@
+package io.github.gallyamb.time.test.junit.impl;
+
+import java.lang.reflect.Method;
+import java.time.*;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.github.gallyamb.time.test.junit.FixedTime;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestIdentifier;
+
+import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
+
+/**
+ * Resolves {@link FixedTime} annotations of tests into clocks
+ * <p>
+ * Annotations are looked up and parsed once per method and per class, so only a lookup in a cache is left per test
+ */
+final class FixedTimes {
+    private static final ClassValue<Optional<Supplier<Clock>>> CLASSES = new ClassValue<>() {
+        @Override
+        protected Optional<Supplier<Clock>> computeValue(Class<?> type) {
+            return findAnnotation(type, FixedTime.class).map(FixedTimes::parse);
+        }
+    };
+    private static final ClassValue<Map<Method, Optional<Supplier<Clock>>>> METHODS = new ClassValue<>() {
+        @Override
+        protected Map<Method, Optional<Supplier<Clock>>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private FixedTimes() {
+    }
+
+    /**
+     * @param testIdentifier the test
+     *
+     * @return the clock to be set for the test, if the test or its class is annotated with {@link FixedTime}
+     *
+     * @throws DateTimeParseException if the annotation is not a valid ISO datetime
+     */
+    static Optional<Supplier<Clock>> of(TestIdentifier testIdentifier) {
+        TestSource source = testIdentifier.getSource().orElse(null);
+        if (source instanceof MethodSource methodSource) {
+            return of(methodSource.getJavaMethod(), methodSource.getJavaClass());
+        }
+        if (source instanceof ClassSource classSource) {
+            return CLASSES.get(classSource.getJavaClass());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @param method    the test method
+     * @param testClass the class of the test, that could be a subclass of the class declaring the method
+     *
+     * @return the clock to be set for the test, if the method or the class is annotated with {@link FixedTime}
+     *
+     * @throws DateTimeParseException if the annotation is not a valid ISO datetime
+     */
+    static Optional<Supplier<Clock>> of(Method method, Class<?> testClass) {
+        Optional<Supplier<Clock>> clock = METHODS.get(method.getDeclaringClass())
+                .computeIfAbsent(method, key -> findAnnotation(key, FixedTime.class).map(FixedTimes::parse));
+        return clock.isPresent() ? clock : CLASSES.get(testClass);
+    }
+
+    private static Supplier<Clock> parse(FixedTime fixedTime) {
+        if (fixedTime.value().isEmpty()) {
+            // the moment of the test start
+            return () -> {
+                OffsetDateTime now = OffsetDateTime.now();
+                return Clock.fixed(now.toInstant(), now.getOffset());
+            };
+        }
+
+        Temporal dateTime = parse(fixedTime.value());
+        Clock clock = Clock.fixed(dateTime.query(Instant::from), dateTime.query(ZoneId::from));
+        return () -> clock;
+    }
+
+    /**
+     * @param value {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME} or
+     *              {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} formatted datetime
+     *
+     * @return parsed datetime
+     *
+     * @throws DateTimeParseException if the value is not a valid ISO datetime
+     */
+    static Temporal parse(String value) {
+        try {
+            return ZonedDateTime.parse(value);
+        } catch (DateTimeParseException ignored) {
+            try {
+                return OffsetDateTime.parse(value);
+            } catch (DateTimeParseException ignored2) {
+                throw new DateTimeParseException(
+                        "Supplied value is not valid ISO datetime: %s".formatted(value),
+                        value,
+                        0
+                );
+            }
+        }
+    }
+}
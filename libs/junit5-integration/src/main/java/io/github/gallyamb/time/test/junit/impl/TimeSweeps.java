@@ -0,0 +1,238 @@
+package io.github.gallyamb.time.test.junit.impl;
+
+import java.time.*;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAmount;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.github.gallyamb.time.test.junit.TimeSweep;
+
+/**
+ * Internal component: generates moments of {@link TimeSweep}s
+ * <p>
+ * Transitions of zone rules are computed once per time zone up to a horizon, that's extended on demand, and then only
+ * searched through
+ */
+public final class TimeSweeps {
+    private static final Instant MIN_HORIZON = Instant.parse("2100-01-01T00:00:00Z");
+    private static final Map<ZoneId, Transitions> TRANSITIONS = new ConcurrentHashMap<>();
+
+    private TimeSweeps() {
+    }
+
+    /**
+     * @param sweep the sweep
+     *
+     * @return lazily generated moments of the sweep in ascending order without duplicates
+     *
+     * @throws IllegalArgumentException if the sweep is invalid
+     */
+    public static Stream<ZonedDateTime> moments(TimeSweep sweep) {
+        ZonedDateTime from = parse(sweep.from());
+        ZoneId zone = sweep.zone().isEmpty() ? from.getZone() : ZoneId.of(sweep.zone());
+        ZonedDateTime start = from.withZoneSameInstant(zone);
+        Instant end = parse(sweep.to()).toInstant();
+        if (!start.toInstant().isBefore(end)) {
+            throw new IllegalArgumentException("Sweep have to end after it starts: %s".formatted(sweep));
+        }
+        if (sweep.step().isEmpty() && !sweep.transitions()) {
+            throw new IllegalArgumentException("Either step or transitions have to be specified: %s".formatted(sweep));
+        }
+
+        Iterator<Instant> steps = sweep.step().isEmpty()
+                ? Collections.emptyIterator()
+                : steps(start, end, step(sweep.step())).iterator();
+        Iterator<Instant> transitions = sweep.transitions()
+                ? transitions(zone, start.toInstant(), end, sweep.around()).iterator()
+                : Collections.emptyIterator();
+        Iterator<Instant> moments = new MergingIterator(steps, transitions);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(moments, Spliterator.ORDERED | Spliterator.DISTINCT),
+                false
+        ).map(instant -> ZonedDateTime.ofInstant(instant, zone));
+    }
+
+    /**
+     * @param zone the time zone
+     * @param from the start of the range, inclusive
+     * @param to   the end of the range, exclusive
+     *
+     * @return instants of transitions of the {@code zone} rules within the range in ascending order
+     */
+    public static List<Instant> transitions(ZoneId zone, Instant from, Instant to) {
+        long[] epochSeconds = TRANSITIONS.compute(zone, (key, cached) -> {
+            if (cached != null && !cached.horizon().isBefore(to)) {
+                return cached;
+            }
+            Instant horizon = to.isAfter(MIN_HORIZON) ? to : MIN_HORIZON;
+            return Transitions.compute(key.getRules(), horizon);
+        }).epochSeconds();
+
+        int first = lowerBound(epochSeconds, from.getEpochSecond() + (from.getNano() > 0 ? 1 : 0));
+        int last = lowerBound(epochSeconds, to.getEpochSecond() + (to.getNano() > 0 ? 1 : 0));
+        List<Instant> transitions = new ArrayList<>(Math.max(last - first, 0));
+        for (int i = first; i < last; i++) {
+            transitions.add(Instant.ofEpochSecond(epochSeconds[i]));
+        }
+        return transitions;
+    }
+
+    private static List<Instant> transitions(ZoneId zone, Instant from, Instant to, String[] around) {
+        Duration[] offsets = Arrays.stream(around)
+                .map(TimeSweeps::duration)
+                .toArray(Duration[]::new);
+        Duration maxOffset = Arrays.stream(offsets).map(Duration::abs).max(Comparator.naturalOrder())
+                .orElse(Duration.ZERO);
+
+        // transitions just outside the range could have moments within it
+        return transitions(zone, from.minus(maxOffset), to.plus(maxOffset))
+                .stream()
+                .flatMap(transition -> Arrays.stream(offsets).map(transition::plus))
+                .filter(moment -> !moment.isBefore(from) && moment.isBefore(to))
+                .sorted()
+                .distinct()
+                .toList();
+    }
+
+    private static Stream<Instant> steps(ZonedDateTime start, Instant end, TemporalAmount step) {
+        // steps are multiplied rather than accumulated, so month ends are not shifted by shorter months
+        return LongStream.iterate(0, i -> i + 1)
+                .mapToObj(i -> start.plus(multiply(step, i)).toInstant())
+                .takeWhile(moment -> moment.isBefore(end));
+    }
+
+    private static TemporalAmount multiply(TemporalAmount step, long times) {
+        if (step instanceof Duration duration) {
+            return duration.multipliedBy(times);
+        }
+        return ((Period) step).multipliedBy(Math.toIntExact(times));
+    }
+
+    private static TemporalAmount step(String value) {
+        TemporalAmount step;
+        boolean positive;
+        try {
+            if (value.contains("T")) {
+                Duration duration = Duration.parse(value);
+                step = duration;
+                positive = !duration.isNegative() && !duration.isZero();
+            } else {
+                Period period = Period.parse(value);
+                step = period;
+                positive = !period.isNegative() && !period.isZero();
+            }
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid step: %s".formatted(value), ex);
+        }
+        if (!positive) {
+            throw new IllegalArgumentException("Step have to be positive: %s".formatted(value));
+        }
+        return step;
+    }
+
+    private static Duration duration(String value) {
+        try {
+            return Duration.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid duration: %s".formatted(value), ex);
+        }
+    }
+
+    private static ZonedDateTime parse(String value) {
+        try {
+            return ZonedDateTime.from(FixedTimes.parse(value));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * @return index of the first element, that's not less than the {@code value}
+     */
+    private static int lowerBound(long[] array, long value) {
+        int low = 0;
+        int high = array.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (array[middle] < value) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @param epochSeconds instants of all transitions before the {@code horizon} in ascending order
+     */
+    private record Transitions(long[] epochSeconds, Instant horizon) {
+        private static Transitions compute(ZoneRules rules, Instant horizon) {
+            long[] epochSeconds = new long[16];
+            int size = 0;
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.MIN);
+            while (transition != null && transition.getInstant().isBefore(horizon)) {
+                if (size == epochSeconds.length) {
+                    epochSeconds = Arrays.copyOf(epochSeconds, size * 2);
+                }
+                epochSeconds[size++] = transition.toEpochSecond();
+                transition = rules.nextTransition(transition.getInstant());
+            }
+            return new Transitions(Arrays.copyOf(epochSeconds, size), horizon);
+        }
+    }
+
+    /**
+     * Merges two ascending iterators into one without duplicates
+     */
+    private static final class MergingIterator implements Iterator<Instant> {
+        private final Iterator<Instant> first;
+        private final Iterator<Instant> second;
+        private Instant nextOfFirst;
+        private Instant nextOfSecond;
+        private Instant last;
+
+        private MergingIterator(Iterator<Instant> first, Iterator<Instant> second) {
+            this.first = first;
+            this.second = second;
+            this.nextOfFirst = first.hasNext() ? first.next() : null;
+            this.nextOfSecond = second.hasNext() ? second.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            skipDuplicates();
+            return nextOfFirst != null || nextOfSecond != null;
+        }
+
+        @Override
+        public Instant next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (nextOfSecond == null || nextOfFirst != null && !nextOfFirst.isAfter(nextOfSecond)) {
+                last = nextOfFirst;
+                nextOfFirst = first.hasNext() ? first.next() : null;
+            } else {
+                last = nextOfSecond;
+                nextOfSecond = second.hasNext() ? second.next() : null;
+            }
+            return last;
+        }
+
+        private void skipDuplicates() {
+            while (last != null && nextOfFirst != null && !nextOfFirst.isAfter(last)) {
+                nextOfFirst = first.hasNext() ? first.next() : null;
+            }
+            while (last != null && nextOfSecond != null && !nextOfSecond.isAfter(last)) {
+                nextOfSecond = second.hasNext() ? second.next() : null;
+            }
+        }
+    }
+}
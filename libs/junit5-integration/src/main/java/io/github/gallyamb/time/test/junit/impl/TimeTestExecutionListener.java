@@ -1,62 +1,29 @@
 package io.github.gallyamb.time.test.junit.impl;
 
-import java.time.*;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.Temporal;
+import java.time.Clock;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import io.github.gallyamb.time.internal.InternalClockHandler;
+import io.github.gallyamb.time.test.impl.ClockScope;
 import io.github.gallyamb.time.test.junit.FixedTime;
 import org.junit.platform.engine.TestExecutionResult;
-import org.junit.platform.engine.support.descriptor.ClassSource;
-import org.junit.platform.engine.support.descriptor.MethodSource;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 
-import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
-
 /**
  * {@link TestExecutionListener} that sets current time within test using {@link FixedTime}
+ * <p>
+ * Every test is run within its own clock scope (see {@link io.github.gallyamb.time.test.NowTest#isolated(Runnable)}),
+ * so tests could be run in parallel with scope-aware handlers
+ * <p>
+ * Annotations are resolved once per test, and parsed clocks are cached per method and class (see
+ * {@link FixedTimes}). Containers are skipped
  */
 public class TimeTestExecutionListener implements TestExecutionListener {
-    private static Optional<FixedTime> getFixedTime(TestIdentifier testIdentifier) {
-        return tryGetFixedTimeFromMethodSource(testIdentifier).or(() -> tryGetFixedTimeFromClassSource(testIdentifier));
-    }
-
-    private static Optional<FixedTime> tryGetFixedTimeFromClassSource(TestIdentifier testIdentifier) {
-        return testIdentifier.getSource()
-                .filter(ClassSource.class::isInstance)
-                .map(ClassSource.class::cast)
-                .flatMap(classSource -> findAnnotation(classSource.getJavaClass(), FixedTime.class));
-    }
-
-    private static Optional<FixedTime> tryGetFixedTimeFromMethodSource(TestIdentifier testIdentifier) {
-        return testIdentifier.getSource()
-                .filter(MethodSource.class::isInstance)
-                .map(MethodSource.class::cast)
-                .flatMap(methodSource -> findAnnotation(methodSource.getJavaMethod(), FixedTime.class)
-                        .or(() -> findAnnotation(methodSource.getJavaClass(), FixedTime.class)));
-    }
-
-    private static Temporal extractOffsetDateTime(FixedTime fixedTime) {
-        if (fixedTime.value().isEmpty()) {
-            return OffsetDateTime.now();
-        } else {
-            try {
-                return ZonedDateTime.parse(fixedTime.value());
-            } catch (DateTimeParseException ignored) {
-                try {
-                    return OffsetDateTime.parse(fixedTime.value());
-                } catch (DateTimeParseException ignored2) {
-                    throw new DateTimeParseException(
-                            "Supplied value is not valid ISO datetime: %s".formatted(fixedTime.value()),
-                            fixedTime.value(),
-                            0
-                    );
-                }
-            }
-        }
-    }
+    private final Map<String, Execution> executions = new ConcurrentHashMap<>();
 
     @Override
     public void executionStarted(TestIdentifier testIdentifier) {
@@ -64,18 +31,29 @@ public class TimeTestExecutionListener implements TestExecutionListener {
             return;
         }
 
-        getFixedTime(testIdentifier).ifPresent(fixedTime -> {
-            Temporal dateTime = extractOffsetDateTime(fixedTime);
-
-            ZoneId zoneId = dateTime.query(ZoneId::from);
-            Instant instant = dateTime.query(Instant::from);
-
-            InternalClockHandler.INSTANCE.setClock(Clock.fixed(instant, zoneId));
-        });
+        Optional<Supplier<Clock>> fixedTime = FixedTimes.of(testIdentifier);
+        // listener is notified in the thread, that executes the test
+        ClockScope scope = ClockScope.open();
+        executions.put(testIdentifier.getUniqueId(), new Execution(scope, fixedTime.isPresent()));
+        fixedTime.ifPresent(clock -> InternalClockHandler.INSTANCE.setClock(clock.get()));
     }
 
     @Override
     public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
-        getFixedTime(testIdentifier).ifPresent(fixedTime -> InternalClockHandler.INSTANCE.reset());
+        if (!testIdentifier.isTest()) {
+            return;
+        }
+
+        Execution execution = executions.remove(testIdentifier.getUniqueId());
+        if (execution == null) {
+            return;
+        }
+        if (execution.fixedTime()) {
+            InternalClockHandler.INSTANCE.reset();
+        }
+        execution.scope().close();
+    }
+
+    private record Execution(ClockScope scope, boolean fixedTime) {
     }
 }
@@ -5,6 +5,7 @@ import org.junit.platform.launcher.TestExecutionListener;
  * This module contains an API for convenient writing of tests using JUnit5 platform
  *
  * @see io.github.gallyamb.time.test.junit.FixedTime
+ * @see io.github.gallyamb.time.test.junit.TimeExtension
  */
 module io.github.gallyamb.time.test.junit {
     provides TestExecutionListener with TimeTestExecutionListener;
@@ -13,7 +14,7 @@ module io.github.gallyamb.time.test.junit {
 
     requires transitive io.github.gallyamb.time.core;
 
+    requires io.github.gallyamb.time.test.core;
     requires org.junit.platform.launcher;
-
-
+    requires org.junit.jupiter.api;
 }
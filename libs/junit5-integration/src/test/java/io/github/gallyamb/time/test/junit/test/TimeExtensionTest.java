@@ -0,0 +1,53 @@
+package io.github.gallyamb.time.test.junit.test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.junit.ClockController;
+import io.github.gallyamb.time.test.junit.FixedTime;
+import io.github.gallyamb.time.test.junit.TimeExtension;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(TimeExtension.class)
+@FixedTime("2020-05-12T11:23:55Z")
+public class TimeExtensionTest {
+    private static final Instant MOMENT = Instant.parse("2020-05-12T11:23:55Z");
+
+    @BeforeEach
+    public void assertFixedMoment(ClockController clock) {
+        // every test starts at the fixed moment, no matter how previous tests changed the clock
+        Assertions.assertEquals(MOMENT, clock.getClock().instant());
+    }
+
+    @Test
+    public void testTick(ClockController clock) {
+        clock.tick(Duration.ofMinutes(5));
+        Assertions.assertEquals(MOMENT.plus(Duration.ofMinutes(5)), Now.instant());
+    }
+
+    @Test
+    public void testSetMoment(ClockController clock) {
+        clock.setMoment(Instant.EPOCH);
+        Assertions.assertEquals(Instant.EPOCH, Now.instant());
+        Assertions.assertEquals(ZoneOffset.UTC, Now.zonedDateTime().getZone());
+    }
+
+    @Test
+    public void testReset(ClockController clock) {
+        Assertions.assertTrue(clock.isChanged());
+        clock.reset();
+        Assertions.assertFalse(clock.isChanged());
+    }
+
+    @Test
+    public void testControllerIsUsableFromAnotherThread(ClockController clock) {
+        CompletableFuture.runAsync(() -> clock.tick(Duration.ofHours(1))).join();
+        Assertions.assertEquals(MOMENT.plus(Duration.ofHours(1)), Now.instant());
+    }
+}
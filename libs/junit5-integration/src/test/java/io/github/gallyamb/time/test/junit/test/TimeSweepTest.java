@@ -0,0 +1,52 @@
+package io.github.gallyamb.time.test.junit.test;
+
+import java.time.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.junit.FixedTime;
+import io.github.gallyamb.time.test.junit.TimeSweep;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+
+@FixedTime("2000-01-01T00:00:00Z")
+public class TimeSweepTest {
+    private static final List<LocalDate> MONTH_ENDS = new CopyOnWriteArrayList<>();
+    private static final List<Instant> TRANSITIONS = new CopyOnWriteArrayList<>();
+
+    @AfterAll
+    public static void assertSweeps() {
+        Assertions.assertEquals(12, MONTH_ENDS.size());
+        Assertions.assertTrue(MONTH_ENDS.contains(LocalDate.of(2020, 2, 29)));
+        MONTH_ENDS.forEach(date -> Assertions.assertEquals(date.lengthOfMonth(), date.getDayOfMonth()));
+
+        Assertions.assertEquals(
+                List.of(
+                        Instant.parse("2021-03-28T00:59:59Z"),
+                        Instant.parse("2021-03-28T01:00:00Z"),
+                        Instant.parse("2021-10-31T00:59:59Z"),
+                        Instant.parse("2021-10-31T01:00:00Z")
+                ),
+                TRANSITIONS.stream().sorted().toList()
+        );
+    }
+
+    @TimeSweep(from = "2020-01-31T12:00:00Z", to = "2021-01-01T00:00:00Z", step = "P1M")
+    public void testMonthEnds(ZonedDateTime moment) {
+        Assertions.assertEquals(moment, Now.zonedDateTime());
+        MONTH_ENDS.add(Now.localDate());
+    }
+
+    @TimeSweep(from = "2021-01-01T00:00:00Z", to = "2022-01-01T00:00:00Z", zone = "Europe/Berlin", transitions = true)
+    public void testTransitions(Instant moment) {
+        Assertions.assertEquals(moment, Now.instant());
+        Assertions.assertEquals(ZoneId.of("Europe/Berlin"), Now.zonedDateTime().getZone());
+        TRANSITIONS.add(moment);
+    }
+
+    @TimeSweep(from = "2020-01-01T00:00:00Z", to = "2020-01-02T00:00:00Z", step = "PT1M")
+    public void testManyMoments(Instant moment) {
+        Assertions.assertEquals(moment, Now.instant());
+    }
+}
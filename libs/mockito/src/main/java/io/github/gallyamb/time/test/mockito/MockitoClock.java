@@ -1,8 +1,10 @@
 package io.github.gallyamb.time.test.mockito;
 
 import java.time.Clock;
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.Objects;
 
 import io.github.gallyamb.time.ClockHandler;
 import org.mockito.MockedStatic;
@@ -31,31 +33,37 @@ import org.mockito.invocation.InvocationOnMock;
  *         <td></td>
  *     </tr>
  * </table>
+ * <p>
+ * Static methods of {@link Clock} are stubbed only once, when the clock is changed from the default one. They return
+ * views of the mutable current clock, so subsequent clock changes (e.g. {@link io.github.gallyamb.time.Now} ticks) are
+ * just a write of the field
  */
 public class MockitoClock implements ClockHandler {
     private MockedStatic<Clock> clock;
+    private volatile Clock current;
+
+    private static Clock unwrap(Clock clock) {
+        return clock instanceof CurrentClockView view ? view.current() : clock;
+    }
 
     @Override
     public Clock getClock() {
-        return Clock.systemDefaultZone();
+        // views have to be unwrapped, so clocks derived from them are not affected by further clock changes
+        return unwrap(Clock.systemDefaultZone());
     }
 
     @Override
     public void setClock(Clock newClock) {
-        if (clock == null) {
-            clock = Mockito.mockStatic(Clock.class, InvocationOnMock::callRealMethod);
-        } else {
-            clock.reset();
+        current = unwrap(newClock);
+        if (clock != null) {
+            return;
         }
 
-        clock.when(Clock::systemUTC)
-                .thenReturn(newClock.withZone(ZoneOffset.UTC));
-        clock.when(Clock::systemDefaultZone).thenReturn(newClock);
+        clock = Mockito.mockStatic(Clock.class, InvocationOnMock::callRealMethod);
+        clock.when(Clock::systemUTC).thenReturn(new CurrentClockView(ZoneOffset.UTC));
+        clock.when(Clock::systemDefaultZone).thenReturn(new CurrentClockView(null));
         clock.when(() -> Clock.system(Mockito.any(ZoneId.class)))
-                .thenAnswer(invocation -> {
-                    ZoneId zoneId = invocation.getArgument(0, ZoneId.class);
-                    return newClock.withZone(zoneId);
-                });
+                .thenAnswer(invocation -> new CurrentClockView(invocation.getArgument(0, ZoneId.class)));
     }
 
     @Override
@@ -64,5 +72,65 @@ public class MockitoClock implements ClockHandler {
             clock.close();
             clock = null;
         }
+        current = null;
+    }
+
+    /**
+     * A view of the {@link #current} clock with the given zone, or with the zone of the {@link #current} clock, if
+     * the zone is {@code null}
+     */
+    private final class CurrentClockView extends Clock {
+        private final ZoneId zone;
+
+        private CurrentClockView(ZoneId zone) {
+            this.zone = zone;
+        }
+
+        private Clock delegate() {
+            Clock current = MockitoClock.this.current;
+            // the view could outlive the mock, e.g. if it's stored in a field
+            return current == null ? Clock.systemDefaultZone() : current;
+        }
+
+        private Clock current() {
+            Clock delegate = delegate();
+            return zone == null ? delegate : delegate.withZone(zone);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone == null ? delegate().getZone() : zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            Objects.requireNonNull(zone);
+            return zone.equals(this.zone) ? this : new CurrentClockView(zone);
+        }
+
+        @Override
+        public long millis() {
+            return delegate().millis();
+        }
+
+        @Override
+        public Instant instant() {
+            return delegate().instant();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof CurrentClockView other && Objects.equals(zone, other.zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(zone);
+        }
+
+        @Override
+        public String toString() {
+            return "CurrentClockView[" + zone + "]";
+        }
     }
 }
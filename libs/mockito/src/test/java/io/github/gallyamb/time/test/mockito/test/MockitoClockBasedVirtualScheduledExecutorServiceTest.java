@@ -0,0 +1,6 @@
+package io.github.gallyamb.time.test.mockito.test;
+
+import io.github.gallyamb.time.test.core.test.BaseVirtualScheduledExecutorServiceTest;
+
+public class MockitoClockBasedVirtualScheduledExecutorServiceTest extends BaseVirtualScheduledExecutorServiceTest {
+}
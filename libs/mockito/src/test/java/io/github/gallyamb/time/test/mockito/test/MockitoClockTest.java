@@ -0,0 +1,40 @@
+package io.github.gallyamb.time.test.mockito.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import io.github.gallyamb.time.test.NowTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class MockitoClockTest {
+    private static final Instant MOMENT = Instant.parse("2020-05-12T11:23:55Z");
+
+    @Test
+    public void testSystemClocksFollowTicks() {
+        ZoneId zone = ZoneId.of("Europe/Moscow");
+        NowTest.withMoment(MOMENT, zone, () -> {
+            Clock utc = Clock.systemUTC();
+            Clock defaultZone = Clock.systemDefaultZone();
+
+            NowTest.tick(5);
+
+            Assertions.assertEquals(MOMENT.plusSeconds(5), utc.instant());
+            Assertions.assertEquals(ZoneOffset.UTC, utc.getZone());
+            Assertions.assertEquals(MOMENT.plusSeconds(5), defaultZone.instant());
+            Assertions.assertEquals(zone, defaultZone.getZone());
+            Assertions.assertEquals(MOMENT.plusSeconds(5), Clock.system(ZoneOffset.ofHours(2)).instant());
+        });
+    }
+
+    @Test
+    public void testClockIsRestubbedAfterReset() {
+        NowTest.withUtcMoment(MOMENT, () -> Assertions.assertEquals(MOMENT, Clock.systemUTC().instant()));
+        Assertions.assertNotEquals(MOMENT, Clock.systemUTC().instant());
+
+        Instant other = MOMENT.plusSeconds(60);
+        NowTest.withUtcMoment(other, () -> Assertions.assertEquals(other, Clock.systemUTC().instant()));
+    }
+}
@@ -6,3 +6,10 @@ dependencies {
     api(project(":time-core"))
     testImplementation(testFixtures(project(":time-test-core")))
 }
+
+tasks {
+    test {
+        // every clock read is counted and sampled, so JFR events of them could be tested
+        systemProperty("io.github.gallyamb.time.jfr.sampling", "1")
+    }
+}
@@ -1,8 +1,6 @@
 package io.github.gallyamb.time.test.plain;
 
 import java.time.Clock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import io.github.gallyamb.time.ClockHandler;
 
@@ -29,36 +27,24 @@ import io.github.gallyamb.time.ClockHandler;
  * </table>
  */
 public class PlainClock implements ClockHandler {
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * Volatile write in {@link #setClock(Clock)} and {@link #reset()} and volatile read in {@link #getClock()} make
+     * the clock, and everything it references, visible to all threads without any locking
+     */
     private volatile Clock clock = Clock.systemDefaultZone();
 
     @Override
     public Clock getClock() {
-        lock.readLock().lock();
-        try {
-            return this.clock;
-        } finally {
-            lock.readLock().unlock();
-        }
+        return this.clock;
     }
 
     @Override
     public void setClock(Clock clock) {
-        lock.writeLock().lock();
-        try {
-            this.clock = clock;
-        } finally {
-            lock.writeLock().unlock();
-        }
+        this.clock = clock;
     }
 
     @Override
     public void reset() {
-        lock.writeLock().lock();
-        try {
-            this.clock = Clock.systemDefaultZone();
-        } finally {
-            lock.writeLock().unlock();
-        }
+        this.clock = Clock.systemDefaultZone();
     }
 }
@@ -0,0 +1,118 @@
+package io.github.gallyamb.time.test.plain.test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.ClockHandlerRegistry;
+import io.github.gallyamb.time.ClockStateListener;
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.NowTest;
+
+/**
+ * Runs a scenario of clock handlers discovery in a separate JVM, as handlers are resolved once per JVM, and prints
+ * its observations as {@code key=value} lines. See {@link PlainClockDiscoveryTest}
+ */
+public class ClockDiscoveryProbe {
+    public static void main(String[] args) {
+        switch (args[0]) {
+            case "registered" -> {
+                ClockHandlerRegistry.register(new FixedClockHandler());
+                print("instant", Now.instant());
+            }
+            case "late" -> {
+                Now.instant();
+                try {
+                    ClockHandlerRegistry.register(new FixedClockHandler());
+                    print("registered", true);
+                } catch (IllegalStateException ex) {
+                    print("registered", false);
+                }
+            }
+            case "change" -> {
+                try {
+                    NowTest.withUtcMoment(Instant.EPOCH, () -> print("instant", Now.instant()));
+                } catch (IllegalAccessError ex) {
+                    print("instant", "not allowed");
+                }
+            }
+            case "ticker" -> {
+                Now.instant();
+                print("ticker", Thread.getAllStackTraces()
+                        .keySet()
+                        .stream()
+                        .anyMatch(thread -> thread.getName().equals("coarse-clock-ticker")));
+            }
+            case "listeners" -> {
+                AtomicInteger registered = new AtomicInteger();
+                ClockHandlerRegistry.register(new ClockStateListener() {
+                    @Override
+                    public void notifyClockChanged() {
+                        registered.incrementAndGet();
+                    }
+
+                    @Override
+                    public void notifyClockReset() {
+                        registered.incrementAndGet();
+                    }
+                });
+                Now.instant();
+                print("created", Listener.CREATED.get());
+
+                NowTest.withUtcMoment(Instant.EPOCH, () -> {
+                });
+                print("discovered", Listener.NOTIFICATIONS.get());
+                print("registered", registered.get());
+            }
+            default -> throw new IllegalArgumentException("Unknown scenario: %s".formatted(args[0]));
+        }
+    }
+
+    private static void print(String key, Object value) {
+        System.out.println(key + "=" + value);
+    }
+
+    /**
+     * A handler, that always reads {@link Instant#EPOCH}
+     */
+    private static class FixedClockHandler implements ClockHandler {
+        @Override
+        public Clock getClock() {
+            return Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+        }
+
+        @Override
+        public void setClock(Clock clock) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void reset() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * A listener found via {@link java.util.ServiceLoader}, that counts its instances and notifications
+     */
+    public static class Listener implements ClockStateListener {
+        private static final AtomicInteger CREATED = new AtomicInteger();
+        private static final AtomicInteger NOTIFICATIONS = new AtomicInteger();
+
+        public Listener() {
+            CREATED.incrementAndGet();
+        }
+
+        @Override
+        public void notifyClockChanged() {
+            NOTIFICATIONS.incrementAndGet();
+        }
+
+        @Override
+        public void notifyClockReset() {
+            NOTIFICATIONS.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.gallyamb.time.test.plain.test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.core.test.ExceptionalRunnable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PlainClockConcurrencyTest {
+    private static final int READERS = 8;
+    private static final int TICKS = 1000;
+
+    @Test
+    public void testClockChangesAreVisibleInAllThreads() {
+        Instant start = Instant.parse("2020-01-01T00:00:00Z");
+        Instant end = start.plusSeconds(TICKS);
+
+        NowTest.withUtcMoment(start, (ExceptionalRunnable) () -> {
+            AtomicBoolean ticking = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(READERS);
+            try {
+                List<Future<Instant>> readers = new ArrayList<>();
+                for (int i = 0; i < READERS; i++) {
+                    readers.add(executor.submit(() -> {
+                        Instant previous = start;
+                        while (ticking.get()) {
+                            Instant current = Now.instant();
+                            Assertions.assertFalse(current.isBefore(previous), "Clock went backwards");
+                            Assertions.assertFalse(current.isAfter(end), "Clock went beyond the last tick");
+                            previous = current;
+                        }
+                        return Now.instant();
+                    }));
+                }
+
+                for (int i = 0; i < TICKS; i++) {
+                    NowTest.tick();
+                }
+                ticking.set(false);
+
+                for (Future<Instant> reader : readers) {
+                    Assertions.assertEquals(end, reader.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        });
+    }
+
+    @Test
+    public void testClockIsChangedInThreadsOutsideOfScope() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // the pool thread is spawned before the scope is opened, so it does not inherit it
+            executor.submit(Now::instant).get();
+
+            NowTest.isolated(() -> NowTest.withUtcMoment(Instant.EPOCH, (ExceptionalRunnable) () -> {
+                executor.submit(() -> NowTest.tick()).get();
+                Assertions.assertEquals(Instant.EPOCH.plusSeconds(1), Now.instant());
+            }));
+            Assertions.assertNotEquals(Instant.EPOCH.plusSeconds(1), Now.instant());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
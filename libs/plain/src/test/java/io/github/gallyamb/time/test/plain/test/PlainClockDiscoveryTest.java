@@ -0,0 +1,93 @@
+package io.github.gallyamb.time.test.plain.test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.ClockHandlerRegistry;
+import io.github.gallyamb.time.OptInClockHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Handlers are resolved once per JVM, so every scenario of {@link ClockDiscoveryProbe} is run in a separate one
+ */
+public class PlainClockDiscoveryTest {
+    private static final String COARSE_CLOCK_HANDLER = "io.github.gallyamb.time.impl.CoarseClockHandler";
+
+    private static Map<String, String> probe(String scenario, String... properties) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        for (String property : properties) {
+            command.add("-D" + property);
+        }
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null) {
+            command.add("--module-path");
+            command.add(modulePath);
+            command.add("--module");
+            command.add(ClockDiscoveryProbe.class.getModule().getName() + "/" + ClockDiscoveryProbe.class.getName());
+        } else {
+            command.add("--class-path");
+            command.add(System.getProperty("java.class.path"));
+            command.add(ClockDiscoveryProbe.class.getName());
+        }
+        command.add(scenario);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        Assertions.assertTrue(process.waitFor(1, TimeUnit.MINUTES), output);
+        Assertions.assertEquals(0, process.exitValue(), output);
+
+        Map<String, String> observations = new HashMap<>();
+        for (String line : output.lines().toList()) {
+            int separator = line.indexOf('=');
+            if (separator > 0) {
+                observations.put(line.substring(0, separator), line.substring(separator + 1));
+            }
+        }
+        return observations;
+    }
+
+    @Test
+    public void testRegisteredHandlersPrecedeDiscoveredOnes() throws Exception {
+        Assertions.assertEquals("1970-01-01T00:00:00Z", probe("registered").get("instant"));
+    }
+
+    @Test
+    public void testRegistrationAfterFirstReadIsRejected() throws Exception {
+        Assertions.assertEquals("false", probe("late").get("registered"));
+    }
+
+    @Test
+    public void testDiscoveredHandlerIsUsed() throws Exception {
+        Assertions.assertEquals("1970-01-01T00:00:00Z", probe("change").get("instant"));
+    }
+
+    @Test
+    public void testDiscoveryCouldBeDisabled() throws Exception {
+        Map<String, String> observations = probe("change", ClockHandlerRegistry.DISCOVERY_PROPERTY + "=false");
+        Assertions.assertEquals("not allowed", observations.get("instant"));
+    }
+
+    @Test
+    public void testOptInHandlersAreUsedOnlyIfEnabled() throws Exception {
+        Assertions.assertEquals("false", probe("ticker").get("ticker"));
+
+        String enabled = OptInClockHandler.ENABLED_HANDLERS_PROPERTY + "=" + COARSE_CLOCK_HANDLER;
+        Assertions.assertEquals("true", probe("ticker", enabled).get("ticker"));
+    }
+
+    @Test
+    public void testLazilyLoadedListenersAreNotified() throws Exception {
+        Map<String, String> observations = probe("listeners");
+        // listeners are not loaded until the clock is changed
+        Assertions.assertEquals("0", observations.get("created"));
+        Assertions.assertEquals("2", observations.get("discovered"));
+        Assertions.assertEquals("2", observations.get("registered"));
+    }
+}
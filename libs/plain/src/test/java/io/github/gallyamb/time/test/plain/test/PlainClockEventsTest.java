@@ -0,0 +1,96 @@
+package io.github.gallyamb.time.test.plain.test;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.NowTest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PlainClockEventsTest {
+    @TempDir
+    public Path directory;
+
+    private List<RecordedEvent> record(String eventName, Runnable job) throws Exception {
+        Path file = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            // periodic events are emitted when the recording is stopped, rather than once a second
+            recording.enable(eventName).with("period", "endChunk");
+            recording.start();
+            job.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file)
+                .stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+
+    @Test
+    public void testClockChangesAreRecorded() throws Exception {
+        List<RecordedEvent> events = record(
+                "io.github.gallyamb.time.ClockChange",
+                () -> NowTest.withUtcMoment(Instant.EPOCH, () -> {
+                })
+        );
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals("FixedClock[1970-01-01T00:00:00Z,UTC]", events.get(0).getString("clock"));
+        Assertions.assertNull(events.get(1).getString("clock"));
+        Assertions.assertEquals("io.github.gallyamb.time.test.plain.PlainClock", events.get(0).getString("handler"));
+    }
+
+    @Test
+    public void testNotificationsAreRecorded() throws Exception {
+        List<RecordedEvent> events = record(
+                "io.github.gallyamb.time.ClockNotification",
+                () -> NowTest.withUtcMoment(Instant.EPOCH, () -> NowTest.tick())
+        );
+
+        Assertions.assertEquals(
+                List.of(false, false, true),
+                events.stream().map(event -> event.getBoolean("reset")).toList()
+        );
+    }
+
+    @Test
+    public void testClockReadsAreCounted() throws Exception {
+        List<RecordedEvent> events = record("io.github.gallyamb.time.ClockReads", () -> {
+            for (int i = 0; i < 10; i++) {
+                Now.instant();
+            }
+        });
+
+        List<RecordedEvent> instantReads = events.stream()
+                .filter(event -> event.getString("accessor").equals("INSTANT"))
+                .toList();
+        Assertions.assertTrue(instantReads.stream().mapToLong(event -> event.getLong("count")).sum() >= 10);
+        Assertions.assertTrue(instantReads.get(0).getString("handler").contains("PlainClock"));
+    }
+
+    @Test
+    public void testClockReadsAreSampled() throws Exception {
+        List<RecordedEvent> events = record("io.github.gallyamb.time.ClockRead", () -> {
+            for (int i = 0; i < 10; i++) {
+                Now.epochMillis();
+            }
+        });
+
+        // the sampling is 1, so every read is committed along with the caller in its stack trace
+        long testReads = events.stream()
+                .filter(event -> event.getString("accessor").equals("EPOCH_MILLIS"))
+                .filter(event -> event.getStackTrace()
+                        .getFrames()
+                        .stream()
+                        .anyMatch(frame -> frame.getMethod().getName().startsWith("lambda$testClockReadsAreSampled")))
+                .count();
+        Assertions.assertEquals(10, testReads);
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.gallyamb.time.test.plain.test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.core.test.ExceptionalRunnable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PlainClockSleepTest {
+    private static void awaitSleeping(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void testSleepWakesUpOnTick() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            CountDownLatch wokeUp = new CountDownLatch(1);
+            Thread sleeper = new Thread((ExceptionalRunnable) (() -> {
+                Now.sleep(Duration.ofHours(1));
+                wokeUp.countDown();
+            }));
+            sleeper.start();
+            awaitSleeping(sleeper);
+
+            NowTest.tick(Duration.ofMinutes(59));
+            Assertions.assertFalse(wokeUp.await(50, TimeUnit.MILLISECONDS));
+
+            NowTest.tick(Duration.ofMinutes(1));
+            Assertions.assertTrue(wokeUp.await(10, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testSleepIsInterruptible() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+            Thread sleeper = new Thread(() -> {
+                try {
+                    Now.sleep(Duration.ofHours(1));
+                    interrupted.complete(false);
+                } catch (InterruptedException ex) {
+                    interrupted.complete(true);
+                }
+            });
+            sleeper.start();
+            awaitSleeping(sleeper);
+
+            sleeper.interrupt();
+            Assertions.assertTrue(interrupted.get(10, TimeUnit.SECONDS));
+        }));
+    }
+
+    @Test
+    public void testSleepInRealTimeWhenClockIsNotChanged() throws InterruptedException {
+        long start = System.nanoTime();
+        Now.sleep(Duration.ofMillis(10));
+        Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(10).toNanos());
+    }
+
+    @Test
+    public void testSleepWithFixedClockIsBoundedByRealTime() {
+        NowTest.withCurrentMoment((ExceptionalRunnable) (() -> {
+            long start = System.nanoTime();
+            Now.sleep(Duration.ofMillis(50));
+            Assertions.assertTrue(System.nanoTime() - start >= Duration.ofMillis(50).toNanos());
+        }));
+    }
+
+    @Test
+    public void testNegativeSleep() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Now.sleep(Duration.ofSeconds(-1)));
+    }
+}
@@ -1,6 +1,12 @@
+import io.github.gallyamb.time.ClockStateListener;
+import io.github.gallyamb.time.test.plain.test.ClockDiscoveryProbe;
+
 module io.github.gallyamb.time.test.plain.test {
+    provides ClockStateListener with ClockDiscoveryProbe.Listener;
+
     exports io.github.gallyamb.time.test.plain.test;
 
     requires io.github.gallyamb.time.test.plain;
     requires io.github.gallyamb.time.test.core.test;
+    requires jdk.jfr;
 }
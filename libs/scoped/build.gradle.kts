@@ -0,0 +1,8 @@
+plugins {
+    id("io.github.gallyamb.time.java-library")
+}
+
+dependencies {
+    api(project(":time-test-core"))
+    testImplementation(testFixtures(project(":time-test-core")))
+}
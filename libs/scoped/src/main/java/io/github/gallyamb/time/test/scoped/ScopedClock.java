@@ -0,0 +1,58 @@
+package io.github.gallyamb.time.test.scoped;
+
+import java.time.Clock;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.test.impl.ClockScope;
+
+/**
+ * An implementation of {@link ClockHandler}, that keeps a plain {@link Clock} per clock scope
+ * <p>
+ * Every test run via JUnit5 integration (or job run via {@link io.github.gallyamb.time.test.NowTest#isolated(Runnable)})
+ * has its own scope, that's inherited by threads it spawns. Threads outside any scope share the global one
+ *
+ * <table>
+ *     <caption>Pros&amp;Cons of this approach</caption>
+ *     <tr>
+ *         <th>Pros</th>
+ *         <th>Cons</th>
+ *     </tr>
+ *     <tr>
+ *         <td>Tests changing current time could be run in parallel</td>
+ *         <td>All time instances have to be obtained via {@link io.github.gallyamb.time.Now}</td>
+ *     </tr>
+ *     <tr>
+ *         <td>Current time is changed in threads spawned within the scope</td>
+ *         <td>
+ *             Threads created before the scope is opened (e.g. pooled ones) do not see the scope's clock, unless
+ *             tasks are submitted to them within the scope explicitly
+ *         </td>
+ *     </tr>
+ * </table>
+ */
+public class ScopedClock implements ClockHandler {
+    public ScopedClock() {
+        ClockScope.enable();
+    }
+
+    @Override
+    public Clock getClock() {
+        Clock clock = ClockScope.current().clock();
+        return clock != null ? clock : Clock.systemDefaultZone();
+    }
+
+    @Override
+    public boolean isClockChanged() {
+        return ClockScope.current().clock() != null;
+    }
+
+    @Override
+    public void setClock(Clock clock) {
+        ClockScope.current().clock(clock);
+    }
+
+    @Override
+    public void reset() {
+        ClockScope.current().clock(null);
+    }
+}
@@ -0,0 +1,16 @@
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.test.scoped.ScopedClock;
+
+/**
+ * This module contains an implementation of the {@link ClockHandler}, that keeps a dedicated {@link java.time.Clock}
+ * per clock scope, so tests could be run in parallel
+ * <p>
+ * This module can be used only when current time is obtained via {@link io.github.gallyamb.time.Now} class' methods
+ *
+ * @see ScopedClock
+ */
+module io.github.gallyamb.time.test.scoped {
+    provides ClockHandler with ScopedClock;
+
+    requires transitive io.github.gallyamb.time.test.core;
+}
@@ -0,0 +1,94 @@
+package io.github.gallyamb.time.test.scoped.test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.*;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.ClockAware;
+import io.github.gallyamb.time.test.NowTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ClockAwareTest {
+    private static final Instant MOMENT = Instant.parse("2020-05-12T11:23:55Z");
+
+    private ScheduledExecutorService pool;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        // threads are spawned outside the scope of the test
+        pool = Executors.newScheduledThreadPool(2);
+        pool.submit(() -> {}).get();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testPlainPoolLosesScope() {
+        NowTest.isolated(() -> NowTest.withUtcMoment(MOMENT, () -> {
+            Instant instant = CompletableFuture.supplyAsync(Now::instant, pool).join();
+            Assertions.assertNotEquals(MOMENT, instant);
+        }));
+    }
+
+    @Test
+    public void testExecutor() {
+        NowTest.isolated(() -> NowTest.withUtcMoment(MOMENT, () -> {
+            Instant instant = CompletableFuture.supplyAsync(Now::instant, ClockAware.executor(pool)).join();
+            Assertions.assertEquals(MOMENT, instant);
+        }));
+    }
+
+    @Test
+    public void testCommonPool() {
+        NowTest.isolated(() -> NowTest.withUtcMoment(MOMENT, () -> {
+            Instant instant = CompletableFuture.supplyAsync(Now::instant, ClockAware.commonPool())
+                    .thenApplyAsync(previous -> Now.instant(), ClockAware.commonPool())
+                    .join();
+            Assertions.assertEquals(MOMENT, instant);
+        }));
+    }
+
+    @Test
+    public void testExecutorService() {
+        ExecutorService executorService = ClockAware.executorService(pool);
+        NowTest.isolated(() -> NowTest.withUtcMoment(MOMENT, () -> {
+            try {
+                Assertions.assertEquals(MOMENT, executorService.submit(Now::instant).get());
+                for (Future<Instant> future : executorService.invokeAll(List.of(Now::instant, Now::instant))) {
+                    Assertions.assertEquals(MOMENT, future.get());
+                }
+            } catch (InterruptedException | ExecutionException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+    }
+
+    @Test
+    public void testScheduledExecutorService() {
+        ScheduledExecutorService executorService = ClockAware.scheduledExecutorService(pool);
+        NowTest.isolated(() -> NowTest.withUtcMoment(MOMENT, () -> {
+            try {
+                Assertions.assertEquals(MOMENT, executorService.schedule(Now::instant, 1, TimeUnit.MILLISECONDS).get());
+            } catch (InterruptedException | ExecutionException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }));
+    }
+
+    @Test
+    public void testThreadFactory() {
+        ThreadFactory threadFactory = ClockAware.threadFactory(Executors.defaultThreadFactory());
+        NowTest.isolated(() -> NowTest.withUtcMoment(MOMENT, () -> {
+            CompletableFuture<Instant> instant = new CompletableFuture<>();
+            threadFactory.newThread(() -> instant.complete(Now.instant())).start();
+            Assertions.assertEquals(MOMENT, instant.join());
+        }));
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.gallyamb.time.test.scoped.test;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.core.test.BaseNowTest;
+
+public class ScopedClockBasedNowTest extends BaseNowTest {
+    @Override
+    protected OffsetDateTime offsetDateTime() {
+        return Now.offsetDateTime();
+    }
+
+    @Override
+    protected ZonedDateTime zonedDateTime() {
+        return Now.zonedDateTime();
+    }
+}
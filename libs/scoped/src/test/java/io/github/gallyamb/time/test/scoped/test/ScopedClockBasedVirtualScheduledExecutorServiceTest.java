@@ -0,0 +1,6 @@
+package io.github.gallyamb.time.test.scoped.test;
+
+import io.github.gallyamb.time.test.core.test.BaseVirtualScheduledExecutorServiceTest;
+
+public class ScopedClockBasedVirtualScheduledExecutorServiceTest extends BaseVirtualScheduledExecutorServiceTest {
+}
@@ -0,0 +1,158 @@
+package io.github.gallyamb.time.test.scoped.test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.NowTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ScopedClockIsolationTest {
+    private static final int THREADS = 8;
+
+    @Test
+    public void testParallelScopesAreIsolated() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Instant moment = Instant.ofEpochSecond(i * 1000L);
+                futures.add(executor.submit(() -> NowTest.isolated(() -> {
+                    NowTest.withUtcMoment(moment, () -> {
+                        await(barrier);
+                        for (int tick = 1; tick <= 100; tick++) {
+                            NowTest.tick();
+                            Assertions.assertEquals(moment.plusSeconds(tick), Now.instant());
+                        }
+                        await(barrier);
+                    });
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testScopeIsInheritedBySpawnedThreads() {
+        NowTest.isolated(() -> {
+            NowTest.withUtcMoment(Instant.EPOCH, () -> {
+                CompletableFuture<Instant> instant = new CompletableFuture<>();
+                Thread thread = new Thread(() -> instant.complete(Now.instant()));
+                thread.start();
+
+                Assertions.assertEquals(Instant.EPOCH, instant.join());
+            });
+        });
+    }
+
+    @Test
+    public void testSpawnedThreadFallsBackToGlobalScopeWhenScopeIsClosed() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch changed = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        try {
+            NowTest.isolated(() -> {
+                NowTest.withUtcMoment(Instant.EPOCH, () -> {
+                    // the pool thread is spawned lazily within the scope, so it inherits it
+                    Assertions.assertEquals(Instant.EPOCH, join(executor.submit(Now::instant)));
+                });
+            });
+
+            Future<?> future = executor.submit(() -> NowTest.withUtcMoment(Instant.EPOCH, () -> {
+                changed.countDown();
+                await(checked);
+            }));
+            Assertions.assertTrue(changed.await(10, TimeUnit.SECONDS));
+            // the closed scope is not used anymore, so the clock is changed in the global one
+            Assertions.assertEquals(Instant.EPOCH, Now.instant());
+            checked.countDown();
+            join(future);
+        } finally {
+            checked.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testClockIsNotChangedOutsideScope() throws Exception {
+        CountDownLatch changed = new CountDownLatch(1);
+        CountDownLatch checked = new CountDownLatch(1);
+        Thread thread = new Thread(() -> NowTest.isolated(() -> {
+            NowTest.withUtcMoment(Instant.EPOCH, () -> {
+                changed.countDown();
+                await(checked);
+            });
+        }));
+        thread.start();
+
+        try {
+            Assertions.assertTrue(changed.await(10, TimeUnit.SECONDS));
+            Assertions.assertNotEquals(Instant.EPOCH, Now.instant());
+            Assertions.assertThrows(IllegalStateException.class, NowTest::tick);
+        } finally {
+            checked.countDown();
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testSleepIsNotWokenUpByResetInAnotherScope() throws Exception {
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+        Thread sleeper = new Thread(() -> NowTest.isolated(() -> {
+            NowTest.withUtcMoment(Instant.EPOCH, () -> {
+                try {
+                    Now.sleep(Duration.ofHours(1));
+                    interrupted.complete(false);
+                } catch (InterruptedException ex) {
+                    interrupted.complete(true);
+                }
+            });
+        }));
+        sleeper.start();
+        while (sleeper.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+
+        // the clock is changed and reset in another scope, that unparks all sleepers to check their clocks
+        NowTest.isolated(() -> NowTest.withCurrentMoment(() -> {
+            NowTest.tick();
+        }));
+        Assertions.assertThrows(TimeoutException.class, () -> interrupted.get(100, TimeUnit.MILLISECONDS));
+
+        sleeper.interrupt();
+        Assertions.assertTrue(interrupted.get(10, TimeUnit.SECONDS));
+    }
+
+    private static <T> T join(Future<T> future) {
+        try {
+            return future.get(10, TimeUnit.SECONDS);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+module io.github.gallyamb.time.test.scoped.test {
+    exports io.github.gallyamb.time.test.scoped.test;
+
+    requires io.github.gallyamb.time.test.scoped;
+    requires io.github.gallyamb.time.test.core.test;
+}
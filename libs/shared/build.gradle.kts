@@ -0,0 +1,18 @@
+plugins {
+    id("io.github.gallyamb.time.java-library")
+}
+
+dependencies {
+    api(project(":time-core"))
+    testImplementation(testFixtures(project(":time-test-core")))
+}
+
+tasks {
+    test {
+        // a file per build, so concurrent builds do not share the clock
+        systemProperty(
+            "io.github.gallyamb.time.shared.file",
+            layout.buildDirectory.file("time-test-shared-clock").get().asFile.absolutePath,
+        )
+    }
+}
@@ -0,0 +1,276 @@
+package io.github.gallyamb.time.test.shared;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.impl.VirtualClock;
+
+/**
+ * An implementation of {@link ClockHandler}, that keeps the clock in a small memory-mapped file, so the clock changed
+ * in one process is changed in all processes, that map the same file (e.g. forked test JVMs or services started as
+ * child processes)
+ * <p>
+ * The file is specified via {@value #FILE_PROPERTY} system property. It's a seqlock: a writer makes the sequence number
+ * odd, writes the clock and makes the sequence number even again, while readers retry until they read the same even
+ * sequence number before and after the clock. Decoded clock is cached per sequence number, so a read of unchanged clock
+ * is just a load of the sequence number from the mapped memory without any syscalls. If the sequence number stays odd
+ * for too long (e.g. the writer was killed in the middle of the write), reads and writes fail instead of spinning
+ * forever
+ * <p>
+ * Fixed clocks (including the ones shifted via {@code NowTest}) are shared as fixed instants. Any other changed clock
+ * is shared as an offset from the system clock, i.e. it's ticking in every process
+ *
+ * <table>
+ *     <caption>Pros&amp;Cons of this approach</caption>
+ *     <tr>
+ *         <th>Pros</th>
+ *         <th>Cons</th>
+ *     </tr>
+ *     <tr>
+ *         <td>Current time could be changed in all local processes simultaneously</td>
+ *         <td>All time instances have to be obtained via {@link io.github.gallyamb.time.Now}</td>
+ *     </tr>
+ *     <tr>
+ *         <td></td>
+ *         <td>
+ *             Clock state listeners and sleeping threads are notified about clock changes only in the process, that
+ *             changed the clock
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td></td>
+ *         <td>
+ *             The file keeps the clock between runs, so it should be dedicated to a single run (e.g. placed in the
+ *             build directory)
+ *         </td>
+ *     </tr>
+ * </table>
+ */
+public class SharedClock implements ClockHandler {
+    /**
+     * The system property with the path of the shared file. It's required, as a default file (e.g. in the temporary
+     * directory) would keep the clock of some previous run
+     */
+    public static final String FILE_PROPERTY = "io.github.gallyamb.time.shared.file";
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    /**
+     * Magic number of the file in the low half and version of the format in the high half
+     */
+    private static final long HEADER = 1L << 32 | 0x4b4c4353;
+    private static final int SEQUENCE_OFFSET = 8;
+    private static final int KIND_OFFSET = 16;
+    private static final int NANOS_OFFSET = 24;
+    private static final int ZONE_LENGTH_OFFSET = 32;
+    private static final int ZONE_OFFSET = 36;
+    private static final int SIZE = 128;
+    private static final int MAX_ZONE_LENGTH = SIZE - ZONE_OFFSET;
+    private static final int SYSTEM = 0;
+    private static final int FIXED = 1;
+    private static final int OFFSET = 2;
+    /**
+     * Maximum time a write of the clock could take, after that the writer is considered dead
+     */
+    private static final long WRITE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private volatile State state;
+
+    /**
+     * Constructs new {@link SharedClock}, that maps the file specified via {@value #FILE_PROPERTY} system property
+     *
+     * @throws IllegalStateException if the system property is not set
+     */
+    public SharedClock() {
+        this(fileFromProperty());
+    }
+
+    /**
+     * Constructs new {@link SharedClock}. The file is created, if it does not exist. Otherwise, the clock, that's kept
+     * in the file, is used
+     *
+     * @param file the shared file
+     */
+    public SharedClock(Path file) {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SIZE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        // the file could be created by several processes at once
+        LONG.compareAndSet(buffer, 0, 0L, HEADER);
+        if ((long) LONG.getVolatile(buffer, 0) != HEADER) {
+            throw new IllegalArgumentException("Not a shared clock file: %s".formatted(file));
+        }
+        this.state = read();
+    }
+
+    @Override
+    public Clock getClock() {
+        return state().clock;
+    }
+
+    @Override
+    public long epochMillis() {
+        State state = state();
+        return state.kind == FIXED ? Math.floorDiv(state.nanos, 1_000_000L) : state.clock.millis();
+    }
+
+    @Override
+    public long epochNanos() {
+        State state = state();
+        return state.kind == FIXED ? state.nanos : ClockHandler.super.epochNanos();
+    }
+
+    @Override
+    public boolean isClockChanged() {
+        return state().kind != SYSTEM;
+    }
+
+    @Override
+    public void setClock(Clock clock) {
+        long nanos = toEpochNanos(clock.instant());
+        if (VirtualClock.isFixed(clock)) {
+            write(FIXED, nanos, clock.getZone());
+        } else {
+            write(OFFSET, nanos - toEpochNanos(Clock.systemUTC().instant()), clock.getZone());
+        }
+    }
+
+    @Override
+    public void reset() {
+        write(SYSTEM, 0, null);
+    }
+
+    private State state() {
+        State state = this.state;
+        if (state.sequence == (long) LONG.getAcquire(buffer, SEQUENCE_OFFSET)) {
+            return state;
+        }
+        state = read();
+        this.state = state;
+        return state;
+    }
+
+    private State read() {
+        long start = System.nanoTime();
+        while (true) {
+            long sequence = (long) LONG.getAcquire(buffer, SEQUENCE_OFFSET);
+            if ((sequence & 1) != 0) {
+                // a writer is changing the clock right now
+                awaitWriter(start);
+                continue;
+            }
+
+            int kind = buffer.getInt(KIND_OFFSET);
+            long nanos = buffer.getLong(NANOS_OFFSET);
+            int zoneLength = buffer.getInt(ZONE_LENGTH_OFFSET);
+            byte[] zone = new byte[Math.min(Math.max(zoneLength, 0), MAX_ZONE_LENGTH)];
+            buffer.get(ZONE_OFFSET, zone);
+
+            VarHandle.acquireFence();
+            if (sequence == (long) LONG.getVolatile(buffer, SEQUENCE_OFFSET)) {
+                return new State(sequence, kind, nanos, decode(kind, nanos, zone));
+            }
+        }
+    }
+
+    private void write(int kind, long nanos, ZoneId zone) {
+        byte[] zoneBytes = zone == null ? new byte[0] : zone.getId().getBytes(StandardCharsets.UTF_8);
+        if (zoneBytes.length > MAX_ZONE_LENGTH) {
+            throw new IllegalArgumentException("Zone id is too long: %s".formatted(zone));
+        }
+
+        long start = System.nanoTime();
+        long sequence;
+        while (true) {
+            sequence = (long) LONG.getVolatile(buffer, SEQUENCE_OFFSET);
+            if ((sequence & 1) != 0) {
+                awaitWriter(start);
+            } else if (LONG.compareAndSet(buffer, SEQUENCE_OFFSET, sequence, sequence + 1)) {
+                break;
+            }
+        }
+
+        try {
+            buffer.putInt(KIND_OFFSET, kind);
+            buffer.putLong(NANOS_OFFSET, nanos);
+            buffer.putInt(ZONE_LENGTH_OFFSET, zoneBytes.length);
+            buffer.put(ZONE_OFFSET, zoneBytes);
+        } finally {
+            LONG.setRelease(buffer, SEQUENCE_OFFSET, sequence + 2);
+        }
+    }
+
+    /**
+     * @param start the moment in terms of {@link System#nanoTime()}, when waiting for the writer started
+     *
+     * @throws IllegalStateException if the writer does not finish in time
+     */
+    private void awaitWriter(long start) {
+        if (System.nanoTime() - start > WRITE_TIMEOUT_NANOS) {
+            throw new IllegalStateException(
+                    "Shared clock is not written in time, the writer was probably killed. Delete the file: %s"
+                            .formatted(file)
+            );
+        }
+        Thread.onSpinWait();
+    }
+
+    private static Path fileFromProperty() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null) {
+            throw new IllegalStateException(
+                    "Shared clock file have to be specified via %s system property".formatted(FILE_PROPERTY)
+            );
+        }
+        return Path.of(file);
+    }
+
+    private static Clock decode(int kind, long nanos, byte[] zone) {
+        if (kind == SYSTEM) {
+            return Clock.systemDefaultZone();
+        }
+
+        ZoneId zoneId = ZoneId.of(new String(zone, StandardCharsets.UTF_8));
+        if (kind == FIXED) {
+            return Clock.fixed(
+                    Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L)),
+                    zoneId
+            );
+        }
+        return Clock.offset(Clock.system(zoneId), Duration.ofNanos(nanos));
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    /**
+     * The clock decoded from the file at the {@code sequence} number
+     */
+    private record State(long sequence, int kind, long nanos, Clock clock) {
+    }
+}
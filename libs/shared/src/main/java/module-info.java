@@ -0,0 +1,18 @@
+import io.github.gallyamb.time.ClockHandler;
+import io.github.gallyamb.time.test.shared.SharedClock;
+
+/**
+ * This module contains an implementation of the {@link ClockHandler}, that shares the clock between processes via a
+ * memory-mapped file, so the clock could be changed for a whole local multi-process deployment at once
+ * <p>
+ * This module can be used only when current time is obtained via {@link io.github.gallyamb.time.Now} class' methods
+ *
+ * @see SharedClock
+ */
+module io.github.gallyamb.time.test.shared {
+    provides ClockHandler with SharedClock;
+
+    exports io.github.gallyamb.time.test.shared;
+
+    requires transitive io.github.gallyamb.time.core;
+}
@@ -0,0 +1,6 @@
+package io.github.gallyamb.time.test.shared.test;
+
+import io.github.gallyamb.time.test.core.test.BaseNowTest;
+
+public class SharedClockBasedNowTest extends BaseNowTest {
+}
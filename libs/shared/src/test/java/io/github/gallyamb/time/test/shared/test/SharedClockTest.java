@@ -0,0 +1,105 @@
+package io.github.gallyamb.time.test.shared.test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.shared.SharedClock;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Two {@link SharedClock}s mapping the same file stand for two processes
+ */
+public class SharedClockTest {
+    private static final Instant MOMENT = Instant.parse("2020-05-12T11:23:55.123456789Z");
+    private static final ZoneId ZONE = ZoneId.of("Europe/Moscow");
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    public void testFixedClockIsShared() {
+        Path file = directory.resolve("clock");
+        SharedClock controller = new SharedClock(file);
+        SharedClock service = new SharedClock(file);
+
+        controller.setClock(Clock.fixed(MOMENT, ZONE));
+        Assertions.assertEquals(Clock.fixed(MOMENT, ZONE), service.getClock());
+        Assertions.assertEquals(MOMENT.toEpochMilli(), service.epochMillis());
+        Assertions.assertEquals(MOMENT.getEpochSecond() * 1_000_000_000L + MOMENT.getNano(), service.epochNanos());
+    }
+
+    @Test
+    public void testTickedClockStaysFixed() {
+        // the handler of this process maps the file from the system property
+        SharedClock service = new SharedClock();
+
+        NowTest.withMoment(MOMENT, ZONE, () -> {
+            NowTest.tick(Duration.ofSeconds(1));
+            Assertions.assertEquals(Clock.fixed(MOMENT.plusSeconds(1), ZONE), service.getClock());
+        });
+        Assertions.assertEquals(Clock.systemDefaultZone(), service.getClock());
+    }
+
+    @Test
+    public void testTickingClockIsShared() {
+        Path file = directory.resolve("clock");
+        SharedClock controller = new SharedClock(file);
+        SharedClock service = new SharedClock(file);
+
+        controller.setClock(Clock.offset(Clock.system(ZONE), Duration.ofDays(-1000)));
+        Instant expected = Instant.now().minus(Duration.ofDays(1000));
+        Duration difference = Duration.between(expected, service.getClock().instant()).abs();
+        Assertions.assertTrue(difference.compareTo(Duration.ofSeconds(10)) < 0, difference.toString());
+        Assertions.assertEquals(ZONE, service.getClock().getZone());
+    }
+
+    @Test
+    public void testResetIsShared() {
+        Path file = directory.resolve("clock");
+        SharedClock controller = new SharedClock(file);
+        SharedClock service = new SharedClock(file);
+
+        controller.setClock(Clock.fixed(MOMENT, ZONE));
+        service.reset();
+        Assertions.assertEquals(Clock.systemDefaultZone(), controller.getClock());
+    }
+
+    @Test
+    public void testClockIsKeptInFile() {
+        Path file = directory.resolve("clock");
+        new SharedClock(file).setClock(Clock.fixed(MOMENT, ZONE));
+
+        Assertions.assertEquals(Clock.fixed(MOMENT, ZONE), new SharedClock(file).getClock());
+    }
+
+    @Test
+    public void testKilledWriterFailsReads() throws Exception {
+        Path file = directory.resolve("clock");
+        SharedClock service = new SharedClock(file);
+        // as if a writer was killed after it made the sequence number odd
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, 1), 8);
+        }
+
+        Assertions.assertThrows(IllegalStateException.class, service::getClock);
+        Assertions.assertThrows(IllegalStateException.class, () -> service.setClock(Clock.fixed(MOMENT, ZONE)));
+        Assertions.assertThrows(IllegalStateException.class, () -> new SharedClock(file));
+    }
+
+    @Test
+    public void testInvalidFile() throws Exception {
+        Path file = Files.writeString(directory.resolve("clock"), "not a shared clock");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SharedClock(file));
+    }
+}
@@ -0,0 +1,6 @@
+module io.github.gallyamb.time.test.shared.test {
+    exports io.github.gallyamb.time.test.shared.test;
+
+    requires io.github.gallyamb.time.test.shared;
+    requires io.github.gallyamb.time.test.core.test;
+}
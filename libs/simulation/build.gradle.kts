@@ -0,0 +1,9 @@
+plugins {
+    id("io.github.gallyamb.time.java-library")
+}
+
+dependencies {
+    api(project(":time-test-core"))
+    testImplementation(project(":time-test-plain"))
+    testImplementation(testFixtures(project(":time-test-core")))
+}
@@ -0,0 +1,332 @@
+package io.github.gallyamb.time.test.simulation;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Objects;
+
+import io.github.gallyamb.time.internal.InternalClockHandler;
+import io.github.gallyamb.time.test.impl.ClockState;
+
+/**
+ * A discrete-event simulation engine. Events are scheduled at virtual instants and run one by one in the order of
+ * their instants (events scheduled at the same instant are run in the order of scheduling), while the clock jumps
+ * straight to the instant of every event. So days of simulated traffic take as long as their events take to run
+ * <p>
+ * While the simulation {@link #run() runs}, its clock is set via the current
+ * {@link io.github.gallyamb.time.ClockHandler}, so {@link io.github.gallyamb.time.Now} reflects the simulation time.
+ * The clock is set once per run, and jumps between events just update a field of it, so clock state listeners are not
+ * notified about them
+ * <p>
+ * The simulation is single-threaded: events have to be scheduled and run in the thread, that runs the simulation, and
+ * they must not sleep or wait for the clock, since nobody else advances it. Pending events are kept in a binary heap
+ * of parallel arrays, so every pending event costs two {@code long}s and a reference, besides the event itself
+ *
+ * <h4>Example</h4>
+ * <pre>
+ * var simulation = new Simulation(Instant.parse("2020-05-12T00:00:00Z"));
+ * var requests = new AtomicInteger();
+ * simulation.schedule(Duration.ZERO, new Runnable() {
+ *     public void run() {
+ *         requests.incrementAndGet();
+ *         simulation.schedule(Duration.ofMillis(100), this);
+ *     }
+ * });
+ *
+ * // a day of traffic is simulated in milliseconds
+ * simulation.runUntil(Instant.parse("2020-05-13T00:00:00Z"));
+ * Assertions.assertEquals(864_001, requests.get());
+ * </pre>
+ */
+public final class Simulation {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final SimulationClock clock;
+    /**
+     * Heap of pending events ordered by their instants, then by their sequences. Instants are stored in nanoseconds
+     * from the epoch of 1970-01-01T00:00:00Z
+     */
+    private long[] instants = new long[INITIAL_CAPACITY];
+    private long[] sequences = new long[INITIAL_CAPACITY];
+    private Runnable[] events = new Runnable[INITIAL_CAPACITY];
+    private int size;
+    private long sequence;
+    private long nanos;
+    private boolean running;
+    private boolean stopped;
+
+    /**
+     * Constructs new {@link Simulation} in UTC time zone
+     *
+     * @param start the instant, that the simulation starts at
+     */
+    public Simulation(Instant start) {
+        this(start, ZoneOffset.UTC);
+    }
+
+    /**
+     * Constructs new {@link Simulation}
+     *
+     * @param start the instant, that the simulation starts at
+     * @param zone  the time zone of the simulation clock
+     */
+    public Simulation(Instant start, ZoneId zone) {
+        this.nanos = toEpochNanos(start);
+        this.clock = new SimulationClock(this, Objects.requireNonNull(zone));
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    /**
+     * @return current instant of the simulation
+     */
+    public Instant now() {
+        return clock.instant();
+    }
+
+    /**
+     * @return current instant of the simulation in nanoseconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    public long epochNanos() {
+        return nanos;
+    }
+
+    /**
+     * @return a clock, that reflects current instant of the simulation
+     */
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * @return count of events, that are scheduled, but are not run yet
+     */
+    public int pending() {
+        return size;
+    }
+
+    /**
+     * Schedules the {@code event} to be run at the {@code instant}
+     *
+     * @param instant the instant to run the {@code event} at. It have not to be before current instant of the
+     *                simulation
+     * @param event   the event to be run
+     */
+    public void schedule(Instant instant, Runnable event) {
+        scheduleAtNanos(toEpochNanos(instant), event);
+    }
+
+    /**
+     * Schedules the {@code event} to be run after the {@code delay} from current instant of the simulation
+     *
+     * @param delay the non-negative delay
+     * @param event the event to be run
+     */
+    public void schedule(Duration delay, Runnable event) {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("Negative durations are not allowed: %s".formatted(delay));
+        }
+        scheduleAtNanos(Math.addExact(nanos, delay.toNanos()), event);
+    }
+
+    /**
+     * Schedules the {@code event} to be run at the {@code epochNanos}. Unlike other scheduling methods, it does not
+     * create intermediate objects
+     *
+     * @param epochNanos the instant to run the {@code event} at in nanoseconds from the epoch of
+     *                   1970-01-01T00:00:00Z. It have not to be before current instant of the simulation
+     * @param event      the event to be run
+     */
+    public void scheduleAtNanos(long epochNanos, Runnable event) {
+        Objects.requireNonNull(event);
+        if (epochNanos < nanos) {
+            throw new IllegalArgumentException(
+                    "Events could not be scheduled in the past: %s".formatted(Instant.EPOCH.plusNanos(epochNanos))
+            );
+        }
+
+        if (size == events.length) {
+            grow();
+        }
+        siftUp(size++, epochNanos, sequence++, event);
+    }
+
+    /**
+     * Runs events until there are no pending ones or the simulation is {@link #stop() stopped}
+     *
+     * @return count of events, that were run
+     */
+    public long run() {
+        return runUntilNanos(Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs events scheduled at or before the {@code end}, unless the simulation is {@link #stop() stopped}. Then the
+     * simulation is moved to the {@code end}, if it has not been stopped
+     *
+     * @param end the instant to run the simulation until
+     *
+     * @return count of events, that were run
+     */
+    public long runUntil(Instant end) {
+        return runUntilNanos(toEpochNanos(end));
+    }
+
+    /**
+     * Stops the running simulation after the current event. Pending events are kept, so the simulation could be run
+     * again
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    private long runUntilNanos(long end) {
+        if (running) {
+            throw new IllegalStateException("Simulation is already running");
+        }
+
+        running = true;
+        stopped = false;
+        boolean clockIsChanged = ClockState.changed();
+        Clock oldClock = InternalClockHandler.INSTANCE.getClock();
+        InternalClockHandler.INSTANCE.setClock(clock);
+        long count = 0;
+        try {
+            while (size > 0 && !stopped && instants[0] <= end) {
+                long instant = instants[0];
+                Runnable event = events[0];
+                removeFirst();
+                nanos = instant;
+                count++;
+                event.run();
+            }
+            if (!stopped && end != Long.MAX_VALUE && end > nanos) {
+                nanos = end;
+            }
+            return count;
+        } finally {
+            running = false;
+            if (clockIsChanged) {
+                InternalClockHandler.INSTANCE.setClock(oldClock);
+            } else {
+                InternalClockHandler.INSTANCE.reset();
+            }
+        }
+    }
+
+    private void grow() {
+        int capacity = events.length + (events.length >> 1);
+        instants = Arrays.copyOf(instants, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+        events = Arrays.copyOf(events, capacity);
+    }
+
+    private void removeFirst() {
+        int last = --size;
+        long instant = instants[last];
+        long sequence = sequences[last];
+        Runnable event = events[last];
+        events[last] = null;
+        if (last > 0) {
+            siftDown(0, instant, sequence, event);
+        }
+    }
+
+    private void siftUp(int index, long instant, long sequence, Runnable event) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(instant, sequence, instants[parent], sequences[parent])) {
+                break;
+            }
+            set(index, instants[parent], sequences[parent], events[parent]);
+            index = parent;
+        }
+        set(index, instant, sequence, event);
+    }
+
+    private void siftDown(int index, long instant, long sequence, Runnable event) {
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < size && before(instants[right], sequences[right], instants[child], sequences[child])) {
+                child = right;
+            }
+            if (!before(instants[child], sequences[child], instant, sequence)) {
+                break;
+            }
+            set(index, instants[child], sequences[child], events[child]);
+            index = child;
+        }
+        set(index, instant, sequence, event);
+    }
+
+    private static boolean before(long instant, long sequence, long otherInstant, long otherSequence) {
+        return instant < otherInstant || instant == otherInstant && sequence < otherSequence;
+    }
+
+    private void set(int index, long instant, long sequence, Runnable event) {
+        instants[index] = instant;
+        sequences[index] = sequence;
+        events[index] = event;
+    }
+
+    /**
+     * A {@link Clock}, that reads current instant of the simulation. Reading it is just a load of a field, so the
+     * clock is never replaced while the simulation runs
+     */
+    private static final class SimulationClock extends Clock {
+        private final Simulation simulation;
+        private final ZoneId zone;
+
+        private SimulationClock(Simulation simulation, ZoneId zone) {
+            this.simulation = simulation;
+            this.zone = zone;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return zone.equals(this.zone) ? this : new SimulationClock(simulation, zone);
+        }
+
+        @Override
+        public long millis() {
+            return Math.floorDiv(simulation.nanos, 1_000_000L);
+        }
+
+        @Override
+        public Instant instant() {
+            long nanos = simulation.nanos;
+            return Instant.ofEpochSecond(
+                    Math.floorDiv(nanos, NANOS_PER_SECOND),
+                    Math.floorMod(nanos, NANOS_PER_SECOND)
+            );
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SimulationClock other && simulation == other.simulation && zone.equals(other.zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(simulation), zone);
+        }
+
+        @Override
+        public String toString() {
+            return "SimulationClock[" + zone + "]";
+        }
+    }
+}
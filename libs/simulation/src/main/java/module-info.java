@@ -0,0 +1,14 @@
+/**
+ * This module contains a discrete-event simulation engine, that runs events scheduled at virtual instants and jumps
+ * the clock straight from one event to the next one
+ * <p>
+ * The clock is changed via the current {@link io.github.gallyamb.time.ClockHandler}, so one of its changeable
+ * implementations (e.g. {@code time-test-plain}) have to be present
+ *
+ * @see io.github.gallyamb.time.test.simulation.Simulation
+ */
+module io.github.gallyamb.time.test.simulation {
+    exports io.github.gallyamb.time.test.simulation;
+
+    requires transitive io.github.gallyamb.time.test.core;
+}
@@ -0,0 +1,103 @@
+package io.github.gallyamb.time.test.simulation.test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.github.gallyamb.time.Now;
+import io.github.gallyamb.time.test.NowTest;
+import io.github.gallyamb.time.test.simulation.Simulation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SimulationTest {
+    private static final Instant START = Instant.parse("2020-05-12T00:00:00Z");
+
+    @Test
+    public void testEventsAreRunInOrderOfInstants() {
+        Simulation simulation = new Simulation(START);
+        List<String> events = new ArrayList<>();
+        simulation.schedule(START.plusSeconds(2), () -> events.add("second " + Now.instant()));
+        simulation.schedule(START.plusSeconds(1), () -> events.add("first " + Now.instant()));
+        simulation.schedule(START.plusSeconds(2), () -> events.add("third " + Now.instant()));
+
+        Assertions.assertEquals(3, simulation.run());
+        Assertions.assertEquals(
+                List.of(
+                        "first " + START.plusSeconds(1),
+                        "second " + START.plusSeconds(2),
+                        "third " + START.plusSeconds(2)
+                ),
+                events
+        );
+        Assertions.assertEquals(START.plusSeconds(2), simulation.now());
+    }
+
+    @Test
+    public void testRunUntil() {
+        Simulation simulation = new Simulation(START);
+        AtomicInteger requests = new AtomicInteger();
+        simulation.schedule(Duration.ZERO, new Runnable() {
+            @Override
+            public void run() {
+                requests.incrementAndGet();
+                simulation.schedule(Duration.ofMillis(100), this);
+            }
+        });
+
+        Assertions.assertEquals(864_001, simulation.runUntil(START.plus(Duration.ofDays(1))));
+        Assertions.assertEquals(864_001, requests.get());
+        Assertions.assertEquals(START.plus(Duration.ofDays(1)), simulation.now());
+        Assertions.assertEquals(1, simulation.pending());
+    }
+
+    @Test
+    public void testRunUntilMovesClockToEnd() {
+        Simulation simulation = new Simulation(START);
+        simulation.schedule(START.plusSeconds(10), () -> {});
+
+        Assertions.assertEquals(0, simulation.runUntil(START.plusSeconds(5)));
+        Assertions.assertEquals(START.plusSeconds(5), simulation.now());
+        Assertions.assertEquals(1, simulation.pending());
+    }
+
+    @Test
+    public void testStop() {
+        Simulation simulation = new Simulation(START);
+        simulation.schedule(Duration.ofSeconds(1), simulation::stop);
+        simulation.schedule(Duration.ofSeconds(2), () -> {});
+
+        Assertions.assertEquals(1, simulation.run());
+        Assertions.assertEquals(1, simulation.pending());
+        Assertions.assertEquals(1, simulation.run());
+    }
+
+    @Test
+    public void testClockIsRestoredAfterRun() {
+        Instant moment = START.minusSeconds(1);
+        NowTest.withUtcMoment(moment, () -> {
+            Simulation simulation = new Simulation(START);
+            List<Instant> instants = new ArrayList<>();
+            simulation.schedule(Duration.ofSeconds(1), () -> instants.add(Now.instant()));
+            simulation.run();
+
+            Assertions.assertEquals(List.of(START.plusSeconds(1)), instants);
+            Assertions.assertEquals(moment, Now.instant());
+        });
+    }
+
+    @Test
+    public void testSchedulingInThePast() {
+        Simulation simulation = new Simulation(START);
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> simulation.schedule(START.minusNanos(1), () -> {})
+        );
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> simulation.schedule(Duration.ofSeconds(-1), () -> {})
+        );
+    }
+}
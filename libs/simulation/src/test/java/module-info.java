@@ -0,0 +1,7 @@
+module io.github.gallyamb.time.test.simulation.test {
+    exports io.github.gallyamb.time.test.simulation.test;
+
+    requires io.github.gallyamb.time.test.simulation;
+    requires io.github.gallyamb.time.test.plain;
+    requires io.github.gallyamb.time.test.core.test;
+}
@@ -5,4 +5,10 @@ plugins {
 dependencies {
     api(platform("org.junit:junit-bom:5.9.1"))
     api(platform("org.mockito:mockito-bom:5.8.0"))
+
+    constraints {
+        // the same version mockito-core 5.8.0 depends on
+        api("net.bytebuddy:byte-buddy:1.14.10")
+        api("net.bytebuddy:byte-buddy-agent:1.14.10")
+    }
 }
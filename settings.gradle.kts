@@ -30,6 +30,9 @@ fun includeProjects(projectsRoot: String) {
                 name = when (name) {
                     "core" -> "time-core"
                     "core-test" -> "time-test-core"
+                    "benchmarks" -> "time-benchmarks"
+                    "concurrent" -> "time-concurrent"
+                    "journal" -> "time-journal"
                     else -> "time-test-${name}"
                 }
 